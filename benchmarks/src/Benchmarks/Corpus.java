@@ -0,0 +1,87 @@
+package Benchmarks;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Corpus of the benchmarks: anonymized RISM records, one marc record per line, packaged with the benchmarks.
+ * The records contain the data fields of RISM manuscripts (incipits, composer, title, persons, holding)
+ * with invented names, sigla and shelfmarks.
+ */
+public class Corpus {
+
+    //resource with one marc record per line
+    private static final String RECORDS_RESOURCE = "/rism_records.txt";
+
+    //collection file: start and end of a marc collection
+    private static final String COLLECTION_START = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<marc:collection xmlns:marc=\"http://www.loc.gov/MARC21/slim\">\n";
+    private static final String COLLECTION_END = "</marc:collection>\n";
+
+    //No instances
+    private Corpus() {}
+
+    /**
+     * Records of the corpus.
+     * @return marc records, one XML string per record
+     * @throws IOException Error while reading the corpus
+     */
+    public static List<String> records() throws IOException {
+        InputStream is = Corpus.class.getResourceAsStream(RECORDS_RESOURCE);
+        if(is == null) throw new FileNotFoundException("Corpus not found: " + RECORDS_RESOURCE);
+
+        //read lines, skip empty lines
+        List<String> records = new ArrayList<>();
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if(!line.isBlank()) records.add(line);
+            }
+        }
+
+        //return records
+        return(records);
+    }
+
+    /**
+     * Records of the corpus as UTF-8 bytes, like the line reader of MarcCsv passes them to the workers.
+     * @return marc records, UTF-8 bytes per record
+     * @throws IOException Error while reading the corpus
+     */
+    public static List<byte[]> recordBytes() throws IOException {
+        List<byte[]> records = new ArrayList<>();
+        for(String record : records()) {
+            records.add(record.getBytes(StandardCharsets.UTF_8));
+        }
+        return(records);
+    }
+
+    /**
+     * Write the records of the corpus as a marc collection into a temporary file, deleted when the JVM exits.
+     * @param copies number of times the corpus is repeated in the collection
+     * @return collection file
+     * @throws IOException Error while writing the file
+     */
+    public static File collectionFile(int copies) throws IOException {
+        File file = File.createTempFile("rism_collection", ".xml");
+        file.deleteOnExit();
+
+        //one record per line, between start and end of the collection
+        List<String> records = records();
+        try(Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            writer.write(COLLECTION_START);
+            for(int copy = 0; copy < copies; copy++) {
+                for(String record : records) {
+                    writer.write("  ");
+                    writer.write(record);
+                    writer.write("\n");
+                }
+            }
+            writer.write(COLLECTION_END);
+        }
+
+        //return file
+        return(file);
+    }
+}
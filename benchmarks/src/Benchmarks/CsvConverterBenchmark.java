@@ -0,0 +1,78 @@
+package Benchmarks;
+
+import MARC.MarcDatafield;
+import MARC.MarcRecord;
+import MARC.MarcRecordBuilder;
+import MARC.MarcSubfield;
+import Utils.CsvConverter;
+import XML.Utf8XmlScanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converting one subfield value of the corpus into a CSV value: as a new string, and appended to an output buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvConverterBenchmark {
+
+    //buffer is cleared when it reaches this size
+    private static final int BUFFER_SIZE = 64*1024;
+
+    //subfield values of the corpus, in corpus order
+    private List<String> values;
+
+    //output buffer
+    private StringBuilder buffer;
+
+    //next value
+    private int index;
+
+    @Setup
+    public void setup() throws IOException, ParseException {
+        Utf8XmlScanner scanner = new Utf8XmlScanner();
+        values = new ArrayList<>();
+        for(byte[] record_xml : Corpus.recordBytes()) {
+            MarcRecordBuilder builder = new MarcRecordBuilder();
+            scanner.parse(record_xml, builder);
+            MarcRecord record = builder.getRecord();
+            for(MarcDatafield datafield : record.getDatafields()) {
+                for(MarcSubfield subfield : datafield.getSubfields()) {
+                    values.add(subfield.getValue());
+                }
+            }
+        }
+        buffer = new StringBuilder(BUFFER_SIZE + 1024);
+        index = 0;
+    }
+
+    @Benchmark
+    public String asCsvString() {
+        return(CsvConverter.asCsvString(values.get(nextIndex())));
+    }
+
+    @Benchmark
+    public StringBuilder appendCsvString() {
+        if(buffer.length() > BUFFER_SIZE) buffer.setLength(0);
+        CsvConverter.appendCsvString(buffer, values.get(nextIndex()));
+        return(buffer);
+    }
+
+    /**
+     * Index of the next value, cycling through the corpus.
+     * @return index of value
+     */
+    private int nextIndex() {
+        if(index == values.size()) index = 0;
+        return(index++);
+    }
+}
@@ -0,0 +1,74 @@
+package Benchmarks;
+
+import MARC.MarcDatafield;
+import MARC.MarcOutput;
+import MARC.MarcRecord;
+import MARC.MarcRecordBuilder;
+import XML.Utf8XmlScanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering the CSV rows of all data fields with one tag in the corpus into a new MarcOutput,
+ * like a worker renders a batch; with and without the rows of the subfield file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatafieldOutputBenchmark {
+
+    //tag of the data fields
+    @Param({"031", "100", "245", "700", "852"})
+    public String tag;
+
+    //render subfield rows as well
+    @Param({"false", "true"})
+    public boolean subfields;
+
+    //data fields with the tag, with record ID and index set
+    private List<MarcDatafield> datafields;
+
+    @Setup
+    public void setup() throws IOException, ParseException {
+        Utf8XmlScanner scanner = new Utf8XmlScanner();
+        datafields = new ArrayList<>();
+        for(byte[] record_xml : Corpus.recordBytes()) {
+            MarcRecordBuilder builder = new MarcRecordBuilder();
+            scanner.parse(record_xml, builder);
+            MarcRecord record = builder.getRecord();
+
+            //data fields with the tag, numbered like MarcRecord numbers them
+            int datafield_index = 1;
+            for(MarcDatafield datafield : record.getDatafields()) {
+                datafield.setMarcRecordID(record.getUniqueMarcRecordID());
+                datafield.setDatafieldIndex(datafield_index++);
+                if(tag.equals(datafield.getTag())) datafields.add(datafield);
+            }
+        }
+        if(datafields.isEmpty()) throw new IllegalStateException("No data fields with tag " + tag + " in the corpus");
+
+        MarcDatafield.setWriteSubfields(subfields);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MarcDatafield.setWriteSubfields(true);
+    }
+
+    @Benchmark
+    public MarcOutput render() throws IOException, ParseException {
+        MarcOutput output = new MarcOutput();
+        for(MarcDatafield datafield : datafields) {
+            datafield.writeTo(output);
+        }
+        return(output);
+    }
+}
@@ -0,0 +1,55 @@
+package Benchmarks;
+
+import MARC.MarcRecord;
+import MARC.MarcRecordBuilder;
+import XML.Utf8XmlScanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the marc model of one record of the corpus from its UTF-8 bytes,
+ * with the scanner and the recycling record builder of the current thread, like the workers of MarcCsv do.
+ * The record ID is resolved by the builder while the record is built.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarcRecordBenchmark {
+
+    //records of the corpus
+    private List<byte[]> recordBytes;
+
+    //next record
+    private int index;
+
+    @Setup
+    public void setup() throws IOException {
+        recordBytes = Corpus.recordBytes();
+        index = 0;
+    }
+
+    @Benchmark
+    public MarcRecord buildFromBytes() throws ParseException {
+        Utf8XmlScanner scanner = Utf8XmlScanner.forCurrentThread();
+        MarcRecordBuilder builder = MarcRecordBuilder.forCurrentThread();
+        builder.reset();
+        scanner.parse(recordBytes.get(nextIndex()), builder);
+        return(builder.getRecord());
+    }
+
+    /**
+     * Index of the next record, cycling through the corpus.
+     * @return index of record
+     */
+    private int nextIndex() {
+        if(index == recordBytes.size()) index = 0;
+        return(index++);
+    }
+}
@@ -0,0 +1,64 @@
+package Benchmarks;
+
+import RISMCollection.MarcRecordSource;
+import RISMCollection.RismCollection;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splitting a marc collection file into records, with the reader based and the memory-mapped record extractor.
+ * The collection contains the corpus several times; one operation reads the whole file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordSplitterBenchmark {
+
+    //number of times the corpus is repeated in the collection
+    private static final int CORPUS_COPIES = 20;
+
+    //read collection memory-mapped
+    @Param({"false", "true"})
+    public boolean memoryMapped;
+
+    //collection file
+    private File collection;
+
+    @Setup
+    public void setup() throws IOException {
+        collection = Corpus.collectionFile(CORPUS_COPIES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        collection.delete();
+    }
+
+    @Benchmark
+    public int splitRecords() throws IOException {
+        int number_of_records = 0;
+        try(MarcRecordSource source = RismCollection.createRecordSource(collection, memoryMapped)) {
+            while (source.nextRecord() != null) {
+                number_of_records++;
+            }
+        }
+        return(number_of_records);
+    }
+
+    @Benchmark
+    public int splitRecordBytes() throws IOException {
+        int number_of_records = 0;
+        try(MarcRecordSource source = RismCollection.createRecordSource(collection, memoryMapped)) {
+            while (source.nextRecordBytes() != null) {
+                number_of_records++;
+            }
+        }
+        return(number_of_records);
+    }
+}
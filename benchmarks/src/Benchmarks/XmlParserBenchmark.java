@@ -0,0 +1,58 @@
+package Benchmarks;
+
+import MARC.MarcRecordBuilder;
+import XML.Utf8XmlScanner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing one marc record of the corpus from UTF-8 bytes as events.
+ * The events are received by a MarcRecordBuilder, like the workers of MarcCsv do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlParserBenchmark {
+
+    //records of the corpus
+    private List<byte[]> recordBytes;
+
+    //scanner and receiver of the events
+    private Utf8XmlScanner scanner;
+    private MarcRecordBuilder builder;
+
+    //next record
+    private int index;
+
+    @Setup
+    public void setup() throws IOException {
+        recordBytes = Corpus.recordBytes();
+        scanner = new Utf8XmlScanner();
+        builder = new MarcRecordBuilder(true);
+        index = 0;
+    }
+
+    @Benchmark
+    public void scanBytes(Blackhole blackhole) throws ParseException {
+        builder.reset();
+        blackhole.consume(scanner.parse(recordBytes.get(nextIndex()), builder));
+        blackhole.consume(builder.getRecord());
+    }
+
+    /**
+     * Index of the next record, cycling through the corpus.
+     * @return index of record
+     */
+    private int nextIndex() {
+        if(index == recordBytes.size()) index = 0;
+        return(index++);
+    }
+}
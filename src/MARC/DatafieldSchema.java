@@ -0,0 +1,262 @@
+package MARC;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Output columns of a datafield: the subfield code of every column, in column order.
+ * A column of a repeatable subfield contains all values of the subfield, a column of a non-repeatable subfield only the first value.
+ * <br/>
+ * A definition lists the columns separated by commas; a repeatable subfield is marked with an asterisk, e.g. "a, b, q*, 6, 8*".
+ * <br/>
+ * Schemas are built in, and can be added or replaced from a schema file with one "tag: definition" line per tag,
+ * e.g. "028: a, b, q*, 6, 8*"; empty lines and lines starting with '#' are skipped.
+ */
+public class DatafieldSchema {
+
+    //definition syntax
+    private static final String COLUMN_SEPARATOR = ",";
+    private static final String REPEATABLE_MARKER = "*";
+    private static final String TAG_SEPARATOR = ":";
+    private static final String COMMENT_MARKER = "#";
+
+    //schema for datafields without a schema of their own: all subfield codes, all repeatable
+    static final DatafieldSchema ALL_COLUMNS = parse("a*, b*, c*, d*, e*, f*, g*, h*, i*, j*, k*, l*, m*, n*, o*, p*, q*, r*, s*, t*, u*, v*, w*, x*, y*, z*, 0*, 1*, 2*, 3*, 4*, 5*, 6*, 7*, 8*, 9*");
+
+    //built-in schemas per tag
+    private static final Map<String, DatafieldSchema> BUILT_IN_SCHEMAS = new HashMap<>();
+
+    //schemas per tag in use: built-in schemas extended with loaded schemas; replaced as a whole when a schema file is loaded
+    private static volatile Map<String, DatafieldSchema> schemas = Collections.unmodifiableMap(BUILT_IN_SCHEMAS);
+
+    static {
+        define("028", "a, b, q*, 6, 8*");
+        define("031", "a, b, c, d*, e, g, m, n, o, p, q*, r, s*, t*, u*, y*, z*, 2, 6, 8*");
+        define("035", "a, z*, 6, 8*");
+        define("040", "a, b, c, d*, e*, 6, 8*");
+        define("041", "a*, b*, d*, e*, f*, g*, h*, i*, j*, k*, m*, n*, p*, q*, r*, t*, 2, 6, 8*");
+        define("100", "a, b, c*, d, e*, f, g*, j*, k*, l, n*, p*, q, t, u, 0*, 1*, 2, 4*, 6, 8*");
+        define("130", "a, d*, f, g*, h, k*, l, m*, n*, o, p*, r, s*, t, 0*, 1*, 2, 6, 8*");
+        define("240", "a, d*, f, g*, h, k*, l, m*, n*, o, p*, r, s*, 0*, 1*, 2, 6, 8*");
+        define("245", "a, b, c, f, g, h, k*, n*, p*, s, 6, 8*");
+        define("246", "a, b, f, g*, h, i, n*, p*, 5, 6, 8*");
+        define("260", "a*, b*, c*, e*, f*, g*, 3, 6, 8*");
+        define("300", "a*, b, c*, e, f*, g*, 3, 6, 8*");
+        define("340", "a*, b*, c*, d*, e*, f*, g*, h*, i*, j*, k*, l*, m*, n*, o*, p*, 0*, 1*, 2, 3, 6, 8*");
+        define("383", "a*, b*, c*, d, e, 2, 3, 6, 8*");
+        define("500", "a, 3, 5, 6, 8*");
+        define("505", "a, g*, r*, t*, u*, 6, 8*");
+        define("506", "a, b*, c*, d*, e*, f*, g*, q, u*, 2, 3, 5, 6, 8*");
+        define("510", "a, b, c, u*, x, 3, 6, 8*");
+        define("518", "a, d*, o*, p*, 0*, 1*, 2*, 3, 6, 8*");
+        define("520", "a, b, c, u*, 2, 3, 6, 8*");
+        define("525", "a, 6, 8*");
+        define("541", "a, b, c, d, e, f, h, n*, o*, 3, 5, 6, 8*");
+        define("546", "a, b*, 3, 6, 8*");
+        define("561", "a, u*, 3, 5, 6, 8*");
+        define("563", "a, u*, 3, 5, 6, 8*");
+        define("588", "a, 5, 6, 8*");
+        define("590", "a, b, c, 3, 6, 8*");
+        define("591", "a, b, c, 6, 8*");
+        define("592", "a, b, c, 6, 8*");
+        define("593", "a, 6, 8*");
+        define("594", "a, b, c, 6, 8*");
+        define("595", "a, b, c, 6, 8*");
+        define("596", "a, b, c, 6, 8*");
+        define("597", "a, b, c, 6, 8*");
+        define("598", "a, b, c, 6, 8*");
+        define("599", "a, b, c, 6, 8*");
+        define("650", "a, b, c, d, e*, g*, v*, x*, y*, z*, 0*, 1*, 2, 3, 4*, 6, 8*");
+        define("651", "a, e*, g*, v*, x*, y*, z*, 0*, 1*, 2, 3, 4*, 6, 8*");
+        define("657", "a, v*, x*, y*, z*, 0*, 1*, 2, 3, 6, 8*");
+        define("690", "a, n, 0*, 6, 8*");
+        define("691", "a, n, 0*, 6, 8*");
+        define("692", "a, n, 0*, 6, 8*");
+        define("693", "a, n, 0*, 6, 8*");
+        define("694", "a, n, 0*, 6, 8*");
+        define("695", "a, n, 0*, 6, 8*");
+        define("696", "a, n, 0*, 6, 8*");
+        define("697", "a, n, 0*, 6, 8*");
+        define("698", "a, n, 0*, 6, 8*");
+        define("699", "a, n, 0*, 6, 8*");
+        define("700", "a, b, c*, d, e*, f, g*, h, i*, j*, k*, l, m*, n*, o, p*, q, r, s*, t, u, x, 0*, 1*, 2, 3, 4*, 5, 6, 8*");
+        define("710", "a, b*, c*, d*, e*, f, g*, h, i*, k*, l, m*, n*, o, p*, r, s*, t, u, x, 0*, 1*, 2, 3, 4*, 5, 6, 8*");
+        define("730", "a, d*, f, g*, h, i*, k*, l, m*, n*, o, p*, r, s*, t, x, 0*, 1*, 2, 3, 4*, 5, 6, 8*");
+        define("760", "a, b, c, d, g*, h, i*, m, n*, o*, s, t, w*, x, y, 4*, 6, 7, 8*");
+        define("762", "a, b, c, d, g*, h, i*, m, n*, o*, s, t, w*, x, y, 4*, 6, 7, 8*");
+        define("765", "a, b, c, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("767", "a, b, c, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("770", "a, b, c, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("772", "a, b, c, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("773", "a, b, d, g*, h, i*, k*, m, n*, o, p, q, r*, s, t, u, w*, x, y, z*, 3, 4*, 6, 7, 8*");
+        define("774", "a, b, c*, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("775", "a, b, c, d, e, f, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("776", "a, b, c, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("777", "a, b, c, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("780", "a, b, c, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("785", "a, b, c, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("786", "a, b, c, d, g*, h, i*, j, k*, m, n*, o*, p, r*, s, t, u, v, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("787", "a, b, c, d, g*, h, i*, k*, m, n*, o*, r*, s, t, u, w*, x, y, z*, 4*, 6, 7, 8*");
+        define("852", "a, b*, c*, d*, e*, f*, g*, h, i*, j, k*, l, m*, n, p, q, s*, t, u*, x*, z*, 2, 3, 6, 8*");
+        define("856", "a*, c*, d*, f*, m*, o, p, q, s*, u*, v*, w*, x*, y*, z*, 2, 3, 6, 7, 8*");
+        define("930", "a, d*, f, g*, h, i*, k*, l, m*, n*, o, p*, r, s*, t, x, 0*, 1*, 2, 3, 4*, 5, 6, 8*");
+        define("973", "a, b, d, g*, h, i*, k*, m, n*, o, p, q, r*, s, t, u, w*, x, y, z*, 3, 4*, 6, 7, 8*");
+        define("980", "a, b, c, d, e, f, g, 6, 8*");
+    }
+
+    //attributes
+    private final String[] codes;
+    private final boolean[] repeatable;
+    private final String header;
+
+    //Constructor
+    private DatafieldSchema(String[] codes, boolean[] repeatable) {
+        this.codes = codes;
+        this.repeatable = repeatable;
+
+        //header columns, each preceded by a separator
+        StringBuilder header = new StringBuilder();
+        for(String code : codes) {
+            header.append(COLUMN_SEPARATOR).append(code);
+        }
+        this.header = header.toString();
+    }
+
+    /**
+     * Get schema of datafield tag.
+     * @param tag datafield tag
+     * @return schema, or null when there is no schema for the tag
+     */
+    static DatafieldSchema forTag(String tag) {
+        //check
+        if(tag == null) throw new RuntimeException("tag is null");
+
+        //return schema
+        return(schemas.get(tag));
+    }
+
+    /**
+     * Number of columns.
+     * @return number of columns
+     */
+    int numberOfColumns() {
+        return(codes.length);
+    }
+
+    /**
+     * Subfield code of column.
+     * @param column column number, starting at 0
+     * @return subfield code
+     */
+    String getCode(int column) {
+        return(codes[column]);
+    }
+
+    /**
+     * Does column contain all values of a repeatable subfield?
+     * @param column column number, starting at 0
+     * @return true when repeatable
+     */
+    boolean isRepeatable(int column) {
+        return(repeatable[column]);
+    }
+
+    /**
+     * Header of the columns, each column preceded by a separator.
+     * @return header string
+     */
+    String header() {
+        return(header);
+    }
+
+    /**
+     * Load schemas from schema file; a schema in the file replaces the schema of the same tag.
+     * To be called before any datafield is written.
+     * @param file_name name of the schema file
+     * @return number of schemas loaded
+     * @throws IOException Error while reading the schema file
+     * @throws ParseException Invalid line in the schema file; no schemas are loaded
+     */
+    public static int load(String file_name) throws IOException, ParseException {
+        //new schemas: built-in schemas extended with the schema file
+        Map<String, DatafieldSchema> loaded_schemas = new HashMap<>(schemas);
+        int number_of_schemas = 0;
+
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file_name), StandardCharsets.UTF_8))) {
+            int line_number = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line_number++;
+
+                //skip empty lines and comments
+                line = line.trim();
+                if(line.isEmpty() || line.startsWith(COMMENT_MARKER)) continue;
+
+                //tag and definition
+                int separator = line.indexOf(TAG_SEPARATOR);
+                String tag = (separator < 0) ? "" : line.substring(0, separator).trim();
+                String definition = (separator < 0) ? "" : line.substring(separator + TAG_SEPARATOR.length());
+                if(tag.isEmpty() || definition.isBlank()) {
+                    throw new ParseException("Invalid schema in " + file_name + " line " + line_number + ": " + line, line_number);
+                }
+
+                //add schema
+                DatafieldSchema schema = parse(definition);
+                for(String code : schema.codes) {
+                    if(code.isEmpty()) throw new ParseException("Empty subfield code in " + file_name + " line " + line_number + ": " + line, line_number);
+                }
+                loaded_schemas.put(tag, schema);
+                number_of_schemas++;
+            }
+        }
+
+        //use new schemas
+        schemas = Collections.unmodifiableMap(loaded_schemas);
+
+        //return number of schemas loaded
+        return(number_of_schemas);
+    }
+
+    /**
+     * Use the built-in schemas only, dropping the schemas loaded from a schema file.
+     */
+    static void useBuiltInSchemas() {
+        schemas = Collections.unmodifiableMap(BUILT_IN_SCHEMAS);
+    }
+
+    /**
+     * Add built-in schema for tag.
+     * @param tag datafield tag
+     * @param definition column definition
+     */
+    private static void define(String tag, String definition) {
+        BUILT_IN_SCHEMAS.put(tag, parse(definition));
+    }
+
+    /**
+     * Create schema from column definition.
+     * @param definition column definition, e.g. "a, b, q*, 6, 8*"
+     * @return schema
+     */
+    private static DatafieldSchema parse(String definition) {
+        String[] columns = definition.split(COLUMN_SEPARATOR);
+        String[] codes = new String[columns.length];
+        boolean[] repeatable = new boolean[columns.length];
+
+        for(int column = 0; column < columns.length; column++) {
+            String code = columns[column].trim();
+            repeatable[column] = code.endsWith(REPEATABLE_MARKER);
+            codes[column] = repeatable[column] ? code.substring(0, code.length() - REPEATABLE_MARKER.length()) : code;
+        }
+
+        //return schema
+        return(new DatafieldSchema(codes, repeatable));
+    }
+}
@@ -1,13 +1,14 @@
 package MARC;
 
-import Utils.FileAppender;
-
-import java.io.File;
 import java.io.IOException;
 import java.text.ParseException;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class Marc {
 
+    //header line per output file; the header only depends on the output file
+    private static final ConcurrentHashMap<String, String> HEADERS = new ConcurrentHashMap<>();
+
     //attributes
     protected String marcRecordID;
 
@@ -24,52 +25,74 @@ public abstract class Marc {
     }
 
     /**
-     * write marc data to file
+     * Render marc data into output lines, without writing to file.
+     * @param output output lines to be extended
      * @throws IOException Error while writing to file
      * @throws ParseException Exception when unknown tag occurred
      */
-    public void writeToFile() throws IOException, ParseException {
+    public void writeTo(MarcOutput output) throws IOException, ParseException {
+        writeTo(output, null);
+    }
+
+    /**
+     * Render marc data into output lines, into a buffer of the output file that is already known.
+     * Used for many rows of the same output file, e.g. all subfields of a data field, without looking up the buffer for every row.
+     * @param output output lines to be extended
+     * @param buffer buffer of the output file returned for a previous row, or null when not known yet
+     * @return buffer of the output file
+     * @throws IOException Error while writing to file
+     * @throws ParseException Exception when unknown tag occurred
+     */
+    StringBuilder writeTo(MarcOutput output, StringBuilder buffer) throws IOException, ParseException {
 
         //Actions to be taken before write to output file
         preWrite();
 
-        //string to be written to file
-        output_string = new StringBuilder();
-
-        //output file
-        File f = new File(outputFilename());
-
-        //if file not exists
-        if(!f.exists()){
-            //header line of file
-            buildHeader();
+        //string to be written to file: the buffer of the previous row, or the buffer of the output file
+        if(buffer != null) {
+            output.addRow();
+            output_string = buffer;
+        } else {
+            output_string = output.buffer(outputFilename(), header());
         }
 
-        try {
-            //build output string
-            buildOutput();
-        } finally {
-            //always write line to output file
-            FileAppender.appendFile(f, output_string);
-        }
+        //build output string
+        buildOutput();
 
         //Actions to be taken after write to output file
-        postWrite();
+        postWrite(output);
+
+        //return buffer of output file
+        return(output_string);
 
     }
 
     /**
-     * Build header
+     * Header line of output file, built once per output file
+     * @return String containing header line
+     * @throws ParseException Exception when unknown tag occurred
      */
-    private void buildHeader() throws ParseException {
-        //check
-        if(output_string == null) throw new RuntimeException("output string is null ("+marcRecordID+")");
+    private String header() throws ParseException {
+        //output file
+        String file_name = outputFilename();
 
         //header line of file
-        output_string
-                .append(fileHeader())
-                .append("\n");
+        String header = HEADERS.get(file_name);
+        if(header == null) {
+            header = fileHeader();
+            HEADERS.put(file_name, header);
+        }
+
+        //return header
+        return(header);
+    }
 
+    /**
+     * Clear marc data, so the object can be reused for the next record.
+     */
+    void recycle() {
+        marcRecordID = null;
+        output_string = null;
     }
 
     /**
@@ -79,8 +102,9 @@ public abstract class Marc {
 
     /**
      * Actions to be taken after write to output file
+     * @param output output lines to be extended
      */
-    abstract void postWrite() throws IOException, ParseException;
+    abstract void postWrite(MarcOutput output) throws IOException, ParseException;
 
     /**
      * Construct output filename
@@ -1,9 +1,9 @@
 package MARC;
 
-import XML.XmlNode;
 import Utils.*;
 
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MarcControlfield extends Marc {
 
@@ -17,6 +17,9 @@ public class MarcControlfield extends Marc {
     private static final String OUTPUT_FILE_NAME = "marc_controlfield";
     private static final String OUTPUT_FILE_EXTENSION = ".csv";
 
+    //output filename per tag
+    private static final ConcurrentHashMap<String, String> OUTPUT_FILES = new ConcurrentHashMap<>();
+
     //attributes
     private String tag;
     private String value;
@@ -85,17 +88,16 @@ public class MarcControlfield extends Marc {
     }
 
     /**
-     * Create marc control field from XML node
-     * @param node XML node to be processed
-     * @param parent connection to parent
-     * @return new marc control field
+     * Clear control field, so it can be reused for the next record.
+     * The details are set again when the control field is written.
      */
-    public static MarcControlfield create(XmlNode node, MarcRecord parent) {
-        MarcControlfield controlfield = new MarcControlfield();
-        controlfield.setTag(node.getFirstAttributeValue());
-        controlfield.setValue(node.getInnerText());
-        controlfield.setParent(parent);
-        return(controlfield);
+    @Override
+    void recycle() {
+        super.recycle();
+        tag = null;
+        value = null;
+        parent = null;
+        controlfieldIndex = 0;
     }
 
     /**
@@ -114,8 +116,9 @@ public class MarcControlfield extends Marc {
 
     /**
      * Actions to be taken after write to output file
+     * @param output output lines to be extended
      */
-    void postWrite() throws IOException {
+    void postWrite(MarcOutput output) throws IOException {
 
     }
 
@@ -124,7 +127,9 @@ public class MarcControlfield extends Marc {
      * @return filename
      */
     String outputFilename() {
-        return(OUTPUT_FILE_NAME + "_" + tag + OUTPUT_FILE_EXTENSION);
+        //filename is built once per tag; a missing tag isn't cached
+        if(tag == null) return(OUTPUT_FILE_NAME + "_" + tag + OUTPUT_FILE_EXTENSION);
+        return(OUTPUT_FILES.computeIfAbsent(tag, file_tag -> OUTPUT_FILE_NAME + "_" + file_tag + OUTPUT_FILE_EXTENSION));
     }
 
     /**
@@ -153,14 +158,11 @@ public class MarcControlfield extends Marc {
         if(output_string == null) throw new RuntimeException("output string is null ("+marcRecordID+" tag:"+tag+" value:"+value+")");
 
         //build output string
-        output_string
-                .append(CsvConverter.asCsvString(marcRecordID))
-                .append(",")
-                .append(controlfieldIndex)
-                .append(",")
-                .append(CsvConverter.asCsvString(tag))
-                .append(",")
-                .append(CsvConverter.asCsvString(value));
+        CsvConverter.appendCsvString(output_string, marcRecordID);
+        output_string.append(",").append(controlfieldIndex).append(",");
+        CsvConverter.appendCsvString(output_string, tag);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, value);
 
         //specific output
         switch (tag) {
@@ -179,25 +181,24 @@ public class MarcControlfield extends Marc {
      */
     private void output005() {
         //check
-        if(output_string == null) throw new RuntimeException("output string is null ("+parent.getUniqueMarcRecordID()+" tag:"+tag+" value:"+value+")");
+        if(output_string == null) throw new RuntimeException("output string is null ("+marcRecordID+" tag:"+tag+" value:"+value+")");
         //split 005 parts
         split_005();
         //build 005 output
-        output_string
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_005_year))
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_005_month))
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_005_day))
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_005_hour))
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_005_minute))
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_005_second))
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_005_second_fraction));
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_005_year);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_005_month);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_005_day);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_005_hour);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_005_minute);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_005_second);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_005_second_fraction);
     }
 
     /**
@@ -205,17 +206,16 @@ public class MarcControlfield extends Marc {
      */
     private void output008() {
         //check
-        if(output_string == null) throw new RuntimeException("output string is null ("+parent.getUniqueMarcRecordID()+" tag:"+tag+" value:"+value+")");
+        if(output_string == null) throw new RuntimeException("output string is null ("+marcRecordID+" tag:"+tag+" value:"+value+")");
         //split 008 parts
         split_008();
         //build 008 output
-        output_string
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_008_year))
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_008_month))
-                .append(",")
-                .append(CsvConverter.asCsvString(CF_008_day));
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_008_year);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_008_month);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, CF_008_day);
     }
 
     /**
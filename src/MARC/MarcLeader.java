@@ -1,6 +1,5 @@
 package MARC;
 
-import XML.XmlNode;
 import Utils.*;
 
 import java.io.IOException;
@@ -90,16 +89,14 @@ public class MarcLeader extends Marc {
     }
 
     /**
-     * Create marc leader from XML node
-     * @param node XML node to be processed
-     * @param parent connection to parent
-     * @return new marc leader
+     * Clear leader, so it can be reused for the next record.
+     * The details are set again when the leader is written.
      */
-    public static MarcLeader create(XmlNode node, MarcRecord parent) {
-        MarcLeader leader = new MarcLeader();
-        leader.setValue(node.getInnerText());
-        leader.setParent(parent);
-        return(leader);
+    @Override
+    void recycle() {
+        super.recycle();
+        value = null;
+        parent = null;
     }
 
     /**
@@ -119,8 +116,9 @@ public class MarcLeader extends Marc {
 
     /**
      * Actions to be taken after write to output file
+     * @param output output lines to be extended
      */
-     void postWrite() throws IOException {
+     void postWrite(MarcOutput output) throws IOException {
 
     }
 
@@ -148,42 +146,41 @@ public class MarcLeader extends Marc {
         if(output_string == null) throw new RuntimeException("output string is null ("+marcRecordID+" value:"+value+")");
 
         //build output string
-        output_string
-                .append(CsvConverter.asCsvString(marcRecordID))
-                .append(",")
-                .append(CsvConverter.asCsvString(value))
-                .append(",")
-                .append(CsvConverter.asCsvString(record_length))
-                .append(",")
-                .append(CsvConverter.asCsvString(record_status))
-                .append(",")
-                .append(CsvConverter.asCsvString(record_type))
-                .append(",")
-                .append(CsvConverter.asCsvString(bibliographic_level))
-                .append(",")
-                .append(CsvConverter.asCsvString(control_type))
-                .append(",")
-                .append(CsvConverter.asCsvString(character_coding_scheme))
-                .append(",")
-                .append(CsvConverter.asCsvString(indicator_count))
-                .append(",")
-                .append(CsvConverter.asCsvString(subfield_code_count))
-                .append(",")
-                .append(CsvConverter.asCsvString(data_base_address))
-                .append(",")
-                .append(CsvConverter.asCsvString(encoding_level))
-                .append(",")
-                .append(CsvConverter.asCsvString(descriptive_cataloging_form))
-                .append(",")
-                .append(CsvConverter.asCsvString(multipart_resource_record_level))
-                .append(",")
-                .append(CsvConverter.asCsvString(length_of_field_portion_length))
-                .append(",")
-                .append(CsvConverter.asCsvString(starting_character_position_portion_length))
-                .append(",")
-                .append(CsvConverter.asCsvString(implementation_defined_portion_length))
-                .append(",")
-                .append(CsvConverter.asCsvString(undefined));
+        CsvConverter.appendCsvString(output_string, marcRecordID);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, value);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, record_length);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, record_status);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, record_type);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, bibliographic_level);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, control_type);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, character_coding_scheme);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, indicator_count);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, subfield_code_count);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, data_base_address);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, encoding_level);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, descriptive_cataloging_form);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, multipart_resource_record_level);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, length_of_field_portion_length);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, starting_character_position_portion_length);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, implementation_defined_portion_length);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, undefined);
 
         //end-of-line
         output_string
@@ -0,0 +1,87 @@
+package MARC;
+
+import Utils.FileWriterRegistry;
+import Utils.RunMetrics;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Output lines of one or more marc records, collected per output file.
+ * Lines are rendered in memory (e.g. by a worker thread) and written to the output files later on, in one go.
+ */
+public class MarcOutput {
+
+    //output lines per output file, in order of rendering
+    private final Map<String, FileLines> files;
+
+    //output file of the last row
+    private FileLines current_file;
+
+    //Constructor
+    public MarcOutput() {
+        this.files = new LinkedHashMap<>();
+    }
+
+    /**
+     * Buffer to which the next row of the file has to be appended.
+     * @param file_name name of output file
+     * @param header header line of output file, written when the file doesn't exist yet
+     * @return buffer of output file
+     */
+    StringBuilder buffer(String file_name, String header) {
+        //existing buffer
+        FileLines file = files.get(file_name);
+
+        //first line for this file: create buffer
+        if(file == null) {
+            file = new FileLines(header);
+            files.put(file_name, file);
+        }
+
+        //count row
+        current_file = file;
+        file.rows++;
+
+        //return buffer
+        return(file.lines);
+    }
+
+    /**
+     * Count the next row of the output file of the last row, appended to the buffer returned for the last row.
+     */
+    void addRow() {
+        current_file.rows++;
+    }
+
+    /**
+     * Write all output lines to the output files, kept open by the FileWriterRegistry.
+     * A header line is written first when an output file doesn't exist yet.
+     * The rows per output file are counted in the metrics of the run.
+     * @throws IOException Error while writing to file
+     */
+    public void write() throws IOException {
+        for(Map.Entry<String, FileLines> entry : files.entrySet()) {
+            //write lines to output file
+            FileWriterRegistry.appendFile(entry.getKey(), entry.getValue().header, entry.getValue().lines);
+            RunMetrics.countRows(entry.getKey(), entry.getValue().rows);
+        }
+    }
+
+    /**
+     * Header line, output lines and number of rows of one output file.
+     */
+    private static class FileLines {
+        private final String header;
+        private final StringBuilder lines;
+        private int rows;
+
+        //Constructor
+        FileLines(String header) {
+            this.header = header;
+            this.lines = new StringBuilder();
+        }
+    }
+
+}
@@ -1,6 +1,5 @@
 package MARC;
 
-import XML.XmlNode;
 import Utils.*;
 
 import java.io.IOException;
@@ -21,6 +20,13 @@ public class MarcRecord extends Marc {
     private List<MarcControlfield> controlfields;
     private List<MarcDatafield> datafields;
 
+    //marc record ID is resolved: set as soon as the control field with the ID is complete, or when the record is written
+    private boolean marcRecordIDResolved;
+
+    //lists of a recycled record, reused when fields are added again
+    private List<MarcControlfield> recycledControlfields;
+    private List<MarcDatafield> recycledDatafields;
+
     //Getters & Setters
     public MarcLeader getLeader() {
         return leader;
@@ -67,14 +73,16 @@ public class MarcRecord extends Marc {
      * Create initial list of control fields
      */
     private void initializeControlfields() {
-        this.controlfields = new ArrayList<>();
+        this.controlfields = (recycledControlfields != null) ? recycledControlfields : new ArrayList<>();
+        this.recycledControlfields = null;
     }
 
     /**
      * Create initial list of data fields
      */
     private void initializeDatafields() {
-        this.datafields = new ArrayList<>();
+        this.datafields = (recycledDatafields != null) ? recycledDatafields : new ArrayList<>();
+        this.recycledDatafields = null;
     }
 
     /**
@@ -106,41 +114,25 @@ public class MarcRecord extends Marc {
     }
 
     /**
-     * Create marc record from XML node and sub-nodes
-     * @param node XML node to be processed
-     * @return new marc record
+     * Clear record, so it can be reused for the next record.
+     * The record has no fields afterwards; its lists are kept for the fields of the next record.
+     * The fields themselves are not recycled here: they are owned by the caller.
      */
-    public static MarcRecord create(XmlNode node) {
-
-        //check if node is a marc record
-        if(!node.getTag().equals(MarcRecord.XML_TOKEN)) {
-            return null;
+    @Override
+    void recycle() {
+        super.recycle();
+        marcRecordIDResolved = false;
+        leader = null;
+        if(controlfields != null) {
+            controlfields.clear();
+            recycledControlfields = controlfields;
+            controlfields = null;
         }
-
-        //new marc record
-        MarcRecord record = new MarcRecord();
-
-        //traverse through record children and sub-children
-        //build a marc record tree
-        for(XmlNode child : node.getChildren()) {
-            switch (child.getTag()) {
-                case MarcLeader.XML_TOKEN:
-                    MarcLeader leader = MarcLeader.create(child, record);
-                    record.setLeader(leader);
-                    break;
-                case MarcControlfield.XML_TOKEN:
-                    MarcControlfield controlfield = MarcControlfield.create(child, record);
-                    record.addControlField(controlfield);
-                    break;
-                case MarcDatafield.XML_TOKEN:
-                    MarcDatafield datafield = MarcDatafield.create(child, record);
-                    record.addDataField(datafield);
-                    break;
-            }
+        if(datafields != null) {
+            datafields.clear();
+            recycledDatafields = datafields;
+            datafields = null;
         }
-
-        //return marc record
-        return(record);
     }
 
     /**
@@ -154,19 +146,23 @@ public class MarcRecord extends Marc {
      * Actions to be taken before write to output file
      */
     void preWrite() {
-        //set marc record ID
-        marcRecordID = getUniqueMarcRecordID();
+        //set marc record ID, when not resolved while building the record
+        if(!marcRecordIDResolved) {
+            marcRecordID = getUniqueMarcRecordID();
+            marcRecordIDResolved = true;
+        }
     }
 
     /**
      * Actions to be taken after write to output file
+     * @param output output lines to be extended
      */
-    void postWrite() throws IOException, ParseException {
+    void postWrite(MarcOutput output) throws IOException, ParseException {
 
         //write leader to output file
         if(leader != null) {
             leader.setMarcRecordID(marcRecordID);
-            leader.writeToFile();
+            leader.writeTo(output);
         }
 
         int controlfield_index = 1;
@@ -174,7 +170,7 @@ public class MarcRecord extends Marc {
         for(MarcControlfield controlfield : controlfields) {
             controlfield.setMarcRecordID(marcRecordID);
             controlfield.setControlfieldIndex(controlfield_index++);
-            controlfield.writeToFile();
+            controlfield.writeTo(output);
         }
 
         int datafield_index = 1;
@@ -182,7 +178,7 @@ public class MarcRecord extends Marc {
         for(MarcDatafield datafield : datafields) {
             datafield.setMarcRecordID(marcRecordID);
             datafield.setDatafieldIndex(datafield_index++);
-            datafield.writeToFile();
+            datafield.writeTo(output);
         }
 
     }
@@ -211,8 +207,7 @@ public class MarcRecord extends Marc {
         if(output_string == null) throw new RuntimeException("output string is null ("+marcRecordID+")");
 
         //build output string
-        output_string
-                .append(CsvConverter.asCsvString(marcRecordID));
+        CsvConverter.appendCsvString(output_string, marcRecordID);
 
         //end-of-line
         output_string
@@ -220,6 +215,18 @@ public class MarcRecord extends Marc {
 
     }
 
+    /**
+     * Resolve marc record ID from a complete control field: the first control field with MARC_RECORD_ID_TAG sets the ID.
+     * The ID is then used for all output lines of the record, without searching the control fields again.
+     * @param controlfield control field of this record, with tag and value
+     */
+    void resolveMarcRecordID(MarcControlfield controlfield) {
+        if(!marcRecordIDResolved && MarcControlfield.MARC_RECORD_ID_TAG.equals(controlfield.getTag())) {
+            marcRecordID = controlfield.getValue();
+            marcRecordIDResolved = true;
+        }
+    }
+
     /**
      * Get unique marc record ID.
      * @return unique marc record ID, or null when list with control fields is empty or when no control field exists with MARC_RECORD_ID_TAG
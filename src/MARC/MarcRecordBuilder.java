@@ -0,0 +1,283 @@
+package MARC;
+
+import XML.XmlHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Build a marc record directly from the events of the XML scanner.
+ * The record is built by these rules:
+ * <br/>
+ * - the root element has to be a marc record;<br/>
+ * - leader, control fields and data fields are children of the record, other children are ignored;<br/>
+ * - every child of a data field is a subfield;<br/>
+ * - tag, indicators and code are taken from the attributes by position;<br/>
+ * - the value is the last inner text of the element.
+ * <br/>
+ * One builder can be reused for several records, one record at a time.
+ * A builder that reuses objects recycles the record, its fields and subfields for the next record:
+ * a record of such a builder is only valid until the next reset().
+ */
+public class MarcRecordBuilder implements XmlHandler {
+
+    //depth of elements
+    private static final int DEPTH_RECORD = 1;
+    private static final int DEPTH_FIELD = 2;
+    private static final int DEPTH_SUBFIELD = 3;
+
+    //depth of current element
+    private int depth;
+
+    //root element has been started
+    private boolean root_started;
+
+    //record being built; null when the root element isn't a marc record
+    private MarcRecord record;
+
+    //field and subfield being built; null when the current element is ignored
+    private MarcLeader leader;
+    private MarcControlfield controlfield;
+    private MarcDatafield datafield;
+    private MarcSubfield subfield;
+
+    //number of attributes of the current element
+    private int attribute_number;
+
+    //reuse record, fields and subfields for every record
+    private final boolean reuse_objects;
+
+    //reusable objects: record and leader, and pools of fields and subfields with the number in use by the current record
+    private final MarcRecord reusable_record;
+    private final MarcLeader reusable_leader;
+    private final List<MarcControlfield> controlfield_pool;
+    private final List<MarcDatafield> datafield_pool;
+    private final List<MarcSubfield> subfield_pool;
+    private int controlfields_in_use;
+    private int datafields_in_use;
+    private int subfields_in_use;
+
+    //one builder reusing objects per thread, for workers that render a record before building the next one
+    private static final ThreadLocal<MarcRecordBuilder> THREAD_BUILDER = ThreadLocal.withInitial(() -> new MarcRecordBuilder(true));
+
+    //Constructors
+    public MarcRecordBuilder() {
+        this(false);
+    }
+
+    public MarcRecordBuilder(boolean reuse_objects) {
+        this.reuse_objects = reuse_objects;
+        this.reusable_record = reuse_objects ? new MarcRecord() : null;
+        this.reusable_leader = reuse_objects ? new MarcLeader() : null;
+        this.controlfield_pool = new ArrayList<>();
+        this.datafield_pool = new ArrayList<>();
+        this.subfield_pool = new ArrayList<>();
+        reset();
+    }
+
+    /**
+     * Builder reusing objects, owned by the current thread.
+     * @return builder of the current thread
+     */
+    public static MarcRecordBuilder forCurrentThread() {
+        return(THREAD_BUILDER.get());
+    }
+
+    /**
+     * Prepare builder for the next record.
+     * A builder that reuses objects recycles the objects of the previous record.
+     */
+    public void reset() {
+        if(reuse_objects) recycleObjects();
+        this.depth = 0;
+        this.root_started = false;
+        this.record = null;
+        this.leader = null;
+        this.controlfield = null;
+        this.datafield = null;
+        this.subfield = null;
+        this.attribute_number = 0;
+    }
+
+    /**
+     * Marc record built from the events.
+     * @return marc record, or null when the XML doesn't contain a marc record
+     */
+    public MarcRecord getRecord() {
+        return(record);
+    }
+
+    /**
+     * Start of element: create record, field or subfield.
+     * @param tag tag of the element
+     */
+    @Override
+    public void startElement(String tag) {
+        depth++;
+        attribute_number = 0;
+
+        switch (depth) {
+            case DEPTH_RECORD -> {
+                //root element: check if it is a marc record; a root element started again continues the record
+                if(!root_started) {
+                    root_started = true;
+                    record = tag.equals(MarcRecord.XML_TOKEN) ? (reuse_objects ? reusable_record : new MarcRecord()) : null;
+                }
+            }
+            case DEPTH_FIELD -> {
+                //child of the record
+                if(record != null) {
+                    startField(tag);
+                }
+            }
+            case DEPTH_SUBFIELD -> {
+                //child of a data field
+                if(datafield != null) {
+                    subfield = newSubfield();
+                    subfield.setParent(datafield);
+                    datafield.addSubfield(subfield);
+                }
+            }
+        }
+    }
+
+    /**
+     * Attribute of element: tag, indicators and code by position.
+     * @param key key of the attribute
+     * @param value value of the attribute
+     */
+    @Override
+    public void attribute(String key, String value) {
+        attribute_number++;
+
+        //attribute of a subfield: first attribute is the code
+        if(depth == DEPTH_SUBFIELD) {
+            if(subfield != null && attribute_number == 1) subfield.setCode(value);
+            return;
+        }
+
+        //attribute of a field
+        if(depth == DEPTH_FIELD) {
+            if(controlfield != null && attribute_number == 1) controlfield.setTag(value);
+            if(datafield != null) {
+                switch (attribute_number) {
+                    case 1 -> datafield.setTag(value);
+                    case 2 -> datafield.setIndicator1(value);
+                    case 3 -> datafield.setIndicator2(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inner text of element: value of leader, control field or subfield.
+     * @param text inner text
+     */
+    @Override
+    public void text(String text) {
+        //text of a subfield
+        if(depth == DEPTH_SUBFIELD) {
+            if(subfield != null) subfield.setValue(text);
+            return;
+        }
+
+        //text of a field
+        if(depth == DEPTH_FIELD) {
+            if(leader != null) leader.setValue(text);
+            if(controlfield != null) controlfield.setValue(text);
+        }
+    }
+
+    /**
+     * End of element: field or subfield is complete.
+     * @param tag tag of the element
+     */
+    @Override
+    public void endElement(String tag) {
+        switch (depth) {
+            case DEPTH_FIELD -> {
+                //control field is complete: record ID is known as soon as its control field is seen
+                if(controlfield != null) record.resolveMarcRecordID(controlfield);
+                leader = null;
+                controlfield = null;
+                datafield = null;
+            }
+            case DEPTH_SUBFIELD -> subfield = null;
+        }
+        depth--;
+    }
+
+    /**
+     * Create field of the record for child element.
+     * @param tag tag of the child element
+     */
+    private void startField(String tag) {
+        switch (tag) {
+            case MarcLeader.XML_TOKEN -> {
+                leader = reuse_objects ? reusable_leader : new MarcLeader();
+                leader.setParent(record);
+                record.setLeader(leader);
+            }
+            case MarcControlfield.XML_TOKEN -> {
+                controlfield = newControlfield();
+                controlfield.setParent(record);
+                record.addControlField(controlfield);
+            }
+            case MarcDatafield.XML_TOKEN -> {
+                datafield = newDatafield();
+                datafield.setParent(record);
+                record.addDataField(datafield);
+            }
+        }
+    }
+
+    /**
+     * New control field, taken from the pool when reusing objects.
+     * @return empty control field
+     */
+    private MarcControlfield newControlfield() {
+        if(!reuse_objects) return(new MarcControlfield());
+        if(controlfields_in_use == controlfield_pool.size()) controlfield_pool.add(new MarcControlfield());
+        return(controlfield_pool.get(controlfields_in_use++));
+    }
+
+    /**
+     * New data field, taken from the pool when reusing objects.
+     * @return empty data field
+     */
+    private MarcDatafield newDatafield() {
+        if(!reuse_objects) return(new MarcDatafield());
+        if(datafields_in_use == datafield_pool.size()) datafield_pool.add(new MarcDatafield());
+        return(datafield_pool.get(datafields_in_use++));
+    }
+
+    /**
+     * New subfield, taken from the pool when reusing objects.
+     * @return empty subfield
+     */
+    private MarcSubfield newSubfield() {
+        if(!reuse_objects) return(new MarcSubfield());
+        if(subfields_in_use == subfield_pool.size()) subfield_pool.add(new MarcSubfield());
+        return(subfield_pool.get(subfields_in_use++));
+    }
+
+    /**
+     * Recycle record, leader, and the fields and subfields used by the previous record.
+     */
+    private void recycleObjects() {
+        reusable_record.recycle();
+        reusable_leader.recycle();
+        for(int index = 0; index < controlfields_in_use; index++) {
+            controlfield_pool.get(index).recycle();
+        }
+        for(int index = 0; index < datafields_in_use; index++) {
+            datafield_pool.get(index).recycle();
+        }
+        for(int index = 0; index < subfields_in_use; index++) {
+            subfield_pool.get(index).recycle();
+        }
+        controlfields_in_use = 0;
+        datafields_in_use = 0;
+        subfields_in_use = 0;
+    }
+}
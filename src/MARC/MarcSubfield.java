@@ -1,9 +1,9 @@
 package MARC;
 
-import XML.XmlNode;
 import Utils.*;
 
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MarcSubfield extends Marc {
 
@@ -14,6 +14,9 @@ public class MarcSubfield extends Marc {
     private static final String OUTPUT_FILE_NAME = "marc_subfield";
     private static final String OUTPUT_FILE_EXTENSION = ".csv";
 
+    //output filename per tag
+    private static final ConcurrentHashMap<String, String> OUTPUT_FILES = new ConcurrentHashMap<>();
+
     //attributes
     private String code;
     private String value;
@@ -29,6 +32,8 @@ public class MarcSubfield extends Marc {
 
     public void setCode(String code) {
         this.code = code;
+        //subfield index of the data field is outdated
+        if(parent != null) parent.invalidateSubfieldIndex();
     }
 
     public String getValue() {
@@ -80,17 +85,16 @@ public class MarcSubfield extends Marc {
     }
 
     /**
-     * Create marc subfield from XML node
-     * @param node XML node to be processed
-     * @param parent connection to parent
-     * @return new marc subfield
+     * Clear subfield, so it can be reused for the next record.
      */
-    public static MarcSubfield create(XmlNode node, MarcDatafield parent) {
-        MarcSubfield subfield = new MarcSubfield();
-        subfield.setCode(node.getFirstAttributeValue());
-        subfield.setValue(node.getInnerText());
-        subfield.setParent(parent);
-        return(subfield);
+    @Override
+    void recycle() {
+        super.recycle();
+        code = null;
+        value = null;
+        parent = null;
+        datafieldIndex = 0;
+        subfieldIndex = 0;
     }
 
     /**
@@ -109,8 +113,9 @@ public class MarcSubfield extends Marc {
 
     /**
      * Actions to be taken after write to output file
+     * @param output output lines to be extended
      */
-    void postWrite() throws IOException {
+    void postWrite(MarcOutput output) throws IOException {
 
     }
 
@@ -119,7 +124,10 @@ public class MarcSubfield extends Marc {
      * @return filename
      */
     String outputFilename() {
-        return(OUTPUT_FILE_NAME + "_" + parent.getTag() + OUTPUT_FILE_EXTENSION);
+        //filename is built once per tag; a missing tag isn't cached
+        String tag = parent.getTag();
+        if(tag == null) return(OUTPUT_FILE_NAME + "_" + tag + OUTPUT_FILE_EXTENSION);
+        return(OUTPUT_FILES.computeIfAbsent(tag, file_tag -> OUTPUT_FILE_NAME + "_" + file_tag + OUTPUT_FILE_EXTENSION));
     }
 
     /**
@@ -138,22 +146,17 @@ public class MarcSubfield extends Marc {
         if(output_string == null) throw new RuntimeException("output string is null ("+marcRecordID+" tag:"+parent.getTag()+" code:"+code+" value:"+value+")");
 
         //build output string
-        output_string
-                .append(CsvConverter.asCsvString(parent.getParent().getUniqueMarcRecordID()))
-                .append(",")
-                .append(CsvConverter.asCsvString(parent.getTag()))
-                .append(",")
-                .append(CsvConverter.asCsvString(parent.getIndicator1()))
-                .append(",")
-                .append(CsvConverter.asCsvString(parent.getIndicator2()))
-                .append(",")
-                .append(datafieldIndex)
-                .append(",")
-                .append(subfieldIndex)
-                .append(",")
-                .append(CsvConverter.asCsvString(code))
-                .append(",")
-                .append(CsvConverter.asCsvString(value));
+        CsvConverter.appendCsvString(output_string, marcRecordID);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, parent.getTag());
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, parent.getIndicator1());
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, parent.getIndicator2());
+        output_string.append(",").append(datafieldIndex).append(",").append(subfieldIndex).append(",");
+        CsvConverter.appendCsvString(output_string, code);
+        output_string.append(",");
+        CsvConverter.appendCsvString(output_string, value);
 
         //end-of-line
         output_string
@@ -1,14 +1,22 @@
 import MARC.*;
+import RISMCollection.MarcRecordSource;
+import RISMCollection.RismCollection;
 import Utils.*;
-import XML.XMLParser;
-import XML.XmlNode;
+import XML.Utf8XmlScanner;
 
 
+import javax.management.JMException;
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.text.ParseException;
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.*;
 
 import static java.lang.System.exit;
 
@@ -16,69 +24,266 @@ public class MarcCsv {
 
     private final static String REJECTIONS_FILE = "rejections.txt";
     private final static int MAX_LINES_IN_FILE = 10000;
+    private final static int RECORDS_IN_BATCH = 100;
+    private final static int QUEUED_BATCHES_PER_WORKER = 4;
+
+    //options
+    private final static String OPTION_COLLECTION = "--collection";
+    private final static String OPTION_MEMORY_MAPPED = "--mmap";
+    private final static String OPTION_SHOW_LINE = "--line=";
+    private final static String OPTION_SCHEMA = "--schema=";
+    private final static String OPTION_NO_SUBFIELDS = "--no-subfields";
+    private final static String OPTION_METRICS = "--metrics=";
+    private final static String OPTION_JMX = "--jmx";
 
     public static void main(String[] args) {
         //check for number of arguments
         if (args.length < 1) {
-            ProgressDisplayer.displayError("Invalid number of arguments. Expected argument: source_file");
+            ProgressDisplayer.displayError("Invalid number of arguments. Expected arguments: source_file [number_of_workers] [" + OPTION_COLLECTION + " [" + OPTION_MEMORY_MAPPED + "]] [" + OPTION_SHOW_LINE + "line_number] [" + OPTION_SCHEMA + "schema_file] [" + OPTION_NO_SUBFIELDS + "] [" + OPTION_METRICS + "summary_file] [" + OPTION_JMX + "]");
             exit(1);
         }
 
         //file names
         String source_file_name = args[0];
 
+        //options
+        int number_of_workers = Runtime.getRuntime().availableProcessors(); //default one worker per processor
+        boolean collection = false;                                         //source file is a marc collection instead of one record per line
+        boolean memory_mapped = false;                                      //read marc collection memory-mapped
+        int show_line = 0;                                                  //only show this line of the source file, starting at 1
+        String schema_file_name = null;                                     //file with datafield schemas
+        String metrics_file_name = null;                                    //file with the metrics of the run, JSON or CSV; no metrics file when null
+        boolean jmx = false;                                                //metrics readable over JMX during the run
+        for (int index = 1; index < args.length; index++) {
+            switch (args[index]) {
+                case OPTION_COLLECTION -> collection = true;
+                case OPTION_MEMORY_MAPPED -> memory_mapped = true;
+                case OPTION_NO_SUBFIELDS -> MarcDatafield.setWriteSubfields(false);
+                case OPTION_JMX -> jmx = true;
+                default -> {
+                    if(args[index].startsWith(OPTION_SHOW_LINE)) {
+                        show_line = lineNumber(args[index]);
+                    } else if(args[index].startsWith(OPTION_SCHEMA)) {
+                        schema_file_name = args[index].substring(OPTION_SCHEMA.length());
+                    } else if(args[index].startsWith(OPTION_METRICS)) {
+                        metrics_file_name = args[index].substring(OPTION_METRICS.length());
+                    } else {
+                        number_of_workers = numberOfWorkers(args[index]);
+                    }
+                }
+            }
+        }
+
         //source file
         File source_file = Utils.getFile(source_file_name);
         if(source_file == null) {
             exit(1);
         }
 
+        //debugging: show one line of the source file
+        if(show_line > 0) {
+            showLine(source_file, show_line);
+            return;
+        }
+
         //print start
         ProgressDisplayer.displayStart();
 
-        try {
-            //print progress
-            ProgressDisplayer.displayProgress("Getting number of lines in source file");
-
-            //count number of lines to be processed in source file
-            int number_of_lines = Utils.countLines(source_file_name);
-
-            //print progress
-            ProgressDisplayer.displayProgress("Split source file");
-
-            //number of output files
-            int number_of_output_files = Utils.numberOfOutputFiles(number_of_lines, MAX_LINES_IN_FILE);
-
-            //create output file names
-            HashMap<String,String> source_file_names = SourceFileBuilder.createFilenames(source_file_name, number_of_output_files);
-            //distribute source over the output files
-            SourceFileBuilder.splitSourceFile(source_file_name,source_file_names,MAX_LINES_IN_FILE);
-//exit(0);
-            //start duration measurement
-            Instant start_overall = Instant.now();
-
-            //delete existing output files
-            deleteOutputFiles();
-
-            //sorted keys
-            List<String> keys = SourceFileBuilder.sortedKeys(source_file_names);
-            //last key
-            String last_key = keys.get(keys.size() - 1);
-            //process all source files
-            for (String key : keys) {
-                //get file name
-                String file_name = source_file_names.get(key);
-                //file processing: parse every line in the source file
-                processInputFile(key, file_name, last_key);
+        //start measuring the run
+        RunMetrics.start(MarcCsv.class.getSimpleName(), source_file_name);
+        if(jmx) {
+            try {
+                RunMetrics.registerMBean();
+            } catch (JMException e) {
+                ProgressDisplayer.displayError("Metrics not available over JMX: " + e.getMessage());
             }
+        }
 
-            //display total run time
-            ProgressDisplayer.displayTotalDuration(number_of_lines, start_overall);
+        //datafield schemas from schema file
+        if(schema_file_name != null) {
+            try {
+                int number_of_schemas = DatafieldSchema.load(schema_file_name);
+                ProgressDisplayer.displayProgress("Loaded " + number_of_schemas + " datafield schemas from " + schema_file_name);
+            } catch (IOException | ParseException e) {
+                ProgressDisplayer.displayError("Invalid schema file: " + e.getMessage());
+                exit(1);
+            }
+        }
 
+        //workers: parse lines and render marc records
+        ExecutorService workers = Executors.newFixedThreadPool(number_of_workers);
+
+        try {
+            if(collection) {
+                //marc collection: stream the records directly into the workers
+                processCollection(source_file, memory_mapped, workers, number_of_workers);
+            } else {
+                //one record per line
+                processLineFile(source_file, workers, number_of_workers);
+            }
         } catch (Exception e) {
             e.printStackTrace();
+        } finally {
+            //stop workers
+            workers.shutdown();
+
+            //flush and close output files
+            try {
+                FileWriterRegistry.closeAll();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+
+            //write metrics of the run, next to the output files in the working directory
+            if(metrics_file_name != null) {
+                try {
+                    RunMetrics.writeSummary(RunMetrics.summaryFile(metrics_file_name, null).getPath());
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Number of workers from argument.
+     * @param argument argument containing the number of workers
+     * @return number of workers; exits when the argument is not a valid number of workers
+     */
+    private static int numberOfWorkers(String argument) {
+        //parse argument
+        int number_of_workers;
+        try {
+            number_of_workers = Integer.parseInt(argument);
+        } catch (NumberFormatException e) {
+            number_of_workers = 0;
         }
 
+        //check value
+        if (number_of_workers <= 0) {
+            ProgressDisplayer.displayError("Invalid argument: " + argument);
+            exit(1);
+        }
+
+        //return number of workers
+        return(number_of_workers);
+    }
+
+    /**
+     * Line number from argument.
+     * @param argument argument containing the line number
+     * @return line number; exits when the argument is not a valid line number
+     */
+    private static int lineNumber(String argument) {
+        //parse argument
+        int line_number;
+        try {
+            line_number = Integer.parseInt(argument.substring(OPTION_SHOW_LINE.length()));
+        } catch (NumberFormatException e) {
+            line_number = 0;
+        }
+
+        //check value
+        if (line_number <= 0) {
+            ProgressDisplayer.displayError("Invalid argument: " + argument);
+            exit(1);
+        }
+
+        //return line number
+        return(line_number);
+    }
+
+    /**
+     * Show one line of the source file, for debugging a rejected record.
+     * The line index of the source file is used to seek to the line directly.
+     * @param source_file source file with one marc record per line
+     * @param line_number number of the line, starting at 1
+     */
+    private static void showLine(File source_file, int line_number) {
+        try {
+            String line = LineIndex.load(source_file.getPath()).readLine(line_number - 1);
+            if(line == null) {
+                ProgressDisplayer.displayError("Line " + line_number + " doesn't exist in " + source_file.getName());
+            } else {
+                System.out.println(line);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Process source file with one marc record per line.
+     * The source file is divided into chunks of lines, which are processed one after the other.
+     * @param source_file source file
+     * @param workers workers processing the lines
+     * @param number_of_workers number of workers
+     * @throws IOException Error while reading or writing files
+     */
+    private static void processLineFile(File source_file, ExecutorService workers, int number_of_workers) throws IOException {
+        //print progress
+        ProgressDisplayer.displayProgress("Divide source file into chunks");
+
+        //chunks of lines in source file
+        long chunk_start = System.nanoTime();
+        List<SourceChunk> chunks = SourceFileBuilder.createChunks(source_file.getPath(), MAX_LINES_IN_FILE);
+        RunMetrics.stage(RunMetrics.STAGE_CHUNK).record(System.nanoTime() - chunk_start, 0, source_file.length());
+
+        //start duration measurement
+        Instant start_overall = Instant.now();
+
+        //delete existing output files
+        deleteOutputFiles();
+
+        //nothing to process
+        if(chunks.isEmpty()) {
+            ProgressDisplayer.displayTotalDuration(0, start_overall);
+            return;
+        }
+
+        //last key
+        String last_key = chunks.get(chunks.size() - 1).getKey();
+        //number of processed lines and errors of all chunks
+        PipelineResult result = new PipelineResult();
+        //process all chunks, reporting progress per chunk
+        try (ProgressReporter progress = new ProgressReporter()) {
+            for (SourceChunk chunk : chunks) {
+                //chunk processing: parse every line in the chunk
+                progress.startFile(chunk.getKey(), last_key, MAX_LINES_IN_FILE);
+                result.add(processInputChunk(source_file, chunk, workers, number_of_workers, progress));
+            }
+        }
+
+        //display total run time
+        ProgressDisplayer.displayTotalDuration(result.number_of_lines, result.number_of_errors, start_overall);
+    }
+
+    /**
+     * Process marc collection in a single pass, without intermediate files.
+     * @param source_file marc collection file
+     * @param memory_mapped true: read the collection memory-mapped
+     * @param workers workers processing the records
+     * @param number_of_workers number of workers
+     * @throws IOException Error while reading or writing files
+     */
+    private static void processCollection(File source_file, boolean memory_mapped, ExecutorService workers, int number_of_workers) throws IOException {
+        //start duration measurement
+        Instant start_overall = Instant.now();
+
+        //delete existing output files
+        deleteOutputFiles();
+
+        //extract records from the collection and process them
+        PipelineResult result;
+        try (MarcRecordSource source = RismCollection.createRecordSource(source_file, memory_mapped);
+             ProgressReporter progress = new ProgressReporter()) {
+            progress.startFile(source_file.getName(), null, 0);
+            result = processRecords(source_file.getName(), source, workers, number_of_workers, progress);
+        }
+
+        //display total run time
+        ProgressDisplayer.displayTotalDuration(result.number_of_lines, result.number_of_errors, start_overall);
     }
 
     /**
@@ -92,84 +297,395 @@ public class MarcCsv {
         MarcSubfield.deleteOutputFiles(".");
     }
 
-    private static void processInputFile(String current_file_number, String file_name, String max_file_number) throws IOException {
+    /**
+     * Process chunk of source file: parse every line in the chunk.
+     * @param source_file source file
+     * @param chunk chunk of source file
+     * @param workers workers processing the lines
+     * @param number_of_workers number of workers
+     * @param progress reporter counting the processed lines
+     * @return number of processed lines and errors
+     * @throws IOException Error while reading or writing files
+     */
+    private static PipelineResult processInputChunk(File source_file, SourceChunk chunk, ExecutorService workers, int number_of_workers, ProgressReporter progress) throws IOException {
+        //parse every line in the chunk; rejections are reported by chunk key
+        try (MarcRecordSource source = new LineSource(source_file, chunk)) {
+            return(processRecords(chunk.getKey(), source, workers, number_of_workers, progress));
+        }
+    }
 
-        //source file
-        File source_file = Utils.getFile(file_name);
-        if(source_file == null) {
-            exit(1);
+    /**
+     * Process marc records in a pipeline.
+     * A reader thread reads the records in batches and hands them over to the workers;
+     * this thread writes the processed batches in source order.
+     * @param current_file_number file number used in rejections
+     * @param source source of marc records
+     * @param workers workers processing the batches
+     * @param number_of_workers number of workers
+     * @param progress reporter counting the processed lines
+     * @return number of processed lines and errors
+     * @throws IOException Error while reading or writing files
+     */
+    private static PipelineResult processRecords(String current_file_number, MarcRecordSource source, ExecutorService workers, int number_of_workers, ProgressReporter progress) throws IOException {
+
+        //number of lines and errors
+        PipelineResult result = new PipelineResult();
+
+        //stages measured by the writer
+        RunMetrics.Stage write_stage = RunMetrics.stage(RunMetrics.STAGE_WRITE);
+        RunMetrics.Stage reject_stage = RunMetrics.stage(RunMetrics.STAGE_REJECT);
+
+        //batches in source order; bounded, so the reader waits when the workers fall behind
+        BlockingQueue<Future<RecordBatch>> batches = new ArrayBlockingQueue<>(QUEUED_BATCHES_PER_WORKER * number_of_workers);
+
+        //reader stage: read records from source and hand them over to the workers
+        Thread reader = new Thread(() -> readBatches(source, workers, batches, progress), "reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            //writer stage: write the rendered batches in source order
+            while (true) {
+
+                //next batch, in source order
+                RecordBatch batch = takeBatch(batches);
+
+                //end of source
+                if(batch == null) {
+                    break;
+                }
+
+                //count lines
+                result.number_of_lines += batch.lines.size();
+
+                //write marc records to file
+                long write_start = System.nanoTime();
+                batch.output.write();
+                write_stage.record(System.nanoTime() - write_start, batch.lines.size(), 0);
+
+                //log rejected lines
+                for(Rejection rejection : batch.rejections) {
+                    result.number_of_errors++;
+                    long reject_start = System.nanoTime();
+                    ExceptionLogger.logException(rejection.exception, current_file_number, rejection.line, rejection.line_number, REJECTIONS_FILE);
+                    reject_stage.record(System.nanoTime() - reject_start, 1, 0);
+                }
+            }
+        } finally {
+            //stop reading when writing failed
+            reader.interrupt();
         }
 
-        //count number of errors in file
-        int error_counter = 0;
+        //return number of lines and errors
+        return(result);
+    }
 
-        //start duration measurement
-        Instant start = Instant.now();
+    /**
+     * Reader stage: read the source in batches of lines and submit every batch to the workers.
+     * The pending results are queued in source order; the queue ends with a null result.
+     * @param source source of marc records, one record per line
+     * @param workers workers processing the batches
+     * @param batches queue with pending results, in source order
+     * @param progress reporter counting the processed lines
+     */
+    private static void readBatches(MarcRecordSource source, ExecutorService workers, BlockingQueue<Future<RecordBatch>> batches, ProgressReporter progress) {
+        try {
+            try {
+                //progress indicator number
+                long progress_indicator_number = 0;
+
+                //reading is measured per batch, without waiting for the workers
+                RunMetrics.Stage read_stage = RunMetrics.stage(RunMetrics.STAGE_READ);
+                long read_start = System.nanoTime();
+                long batch_bytes = 0;
+
+                //lines of the next batch, as UTF-8 bytes
+                List<byte[]> lines = new ArrayList<>(RECORDS_IN_BATCH);
+
+                //get line to be processed
+                byte[] line = source.nextRecordBytes();
+
+                //process until end-of-file
+                while (line != null) {
+
+                    //add line to batch
+                    lines.add(line);
+                    batch_bytes += line.length;
+
+                    //batch is full: hand over to the workers
+                    if(lines.size() == RECORDS_IN_BATCH) {
+                        read_stage.record(System.nanoTime() - read_start, lines.size(), batch_bytes);
+                        RecordBatch batch = new RecordBatch(progress_indicator_number + 1, lines);
+                        batches.put(workers.submit(() -> processBatch(batch, progress)));
+                        progress_indicator_number += lines.size();
+                        lines = new ArrayList<>(RECORDS_IN_BATCH);
+                        batch_bytes = 0;
+                        read_start = System.nanoTime();
+                    }
+
+                    //read next line
+                    line = source.nextRecordBytes();
+                }
 
-        //initialize progress values
-        ProgressDisplayer.initializeProgressValues();
+                //remaining lines
+                if(!lines.isEmpty()) {
+                    read_stage.record(System.nanoTime() - read_start, lines.size(), batch_bytes);
+                    RecordBatch batch = new RecordBatch(progress_indicator_number + 1, lines);
+                    batches.put(workers.submit(() -> processBatch(batch, progress)));
+                }
 
-        //progress indicator number
-        long progress_indicator_number = 0;
+            } catch (IOException e) {
+                //hand over the error to the writer stage
+                batches.put(CompletableFuture.failedFuture(e));
+                return;
+            }
+
+            //end of source file
+            batches.put(CompletableFuture.completedFuture(null));
+
+        } catch (InterruptedException e) {
+            //writer stage stopped
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Take the next processed batch from the queue, waiting for the worker when needed.
+     * @param batches queue with pending results, in source order
+     * @return processed batch, or null at the end of the source file
+     * @throws IOException Error while reading or processing the batch
+     */
+    private static RecordBatch takeBatch(BlockingQueue<Future<RecordBatch>> batches) throws IOException {
+        try {
+            return(batches.take().get());
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Worker stage: parse every line of the batch into a marc record and render its output lines.
+     * @param batch batch to be processed
+     * @param progress reporter counting the processed lines
+     * @return processed batch
+     */
+    private static RecordBatch processBatch(RecordBatch batch, ProgressReporter progress) {
 
-        //read source file using a buffer
-        BufferedReader reader = new BufferedReader(new FileReader(source_file));
+        //XML scanner and marc record builder of this worker; the builder reuses its record, fields and subfields for every line
+        Utf8XmlScanner scanner = Utf8XmlScanner.forCurrentThread();
+        MarcRecordBuilder builder = MarcRecordBuilder.forCurrentThread();
 
-        //get line to be processed
-        String line = reader.readLine();
+        //stages measured per line
+        RunMetrics.Stage parse_stage = RunMetrics.stage(RunMetrics.STAGE_PARSE);
+        RunMetrics.Stage render_stage = RunMetrics.stage(RunMetrics.STAGE_RENDER);
 
-        //process until end-of-file
-        while (line != null) {
+        //progress indicator number
+        long progress_indicator_number = batch.first_line_number - 1;
+
+        for(byte[] line : batch.lines) {
 
             //increase progress indicator
             progress_indicator_number++;
 
-            //root of XML tree
-            XmlNode root = null;
+            //line contains XML
+            boolean parsed = false;
+
+            //start of parsing
+            long parse_start = System.nanoTime();
 
             try {
-                //parse the XML
-                root = XMLParser.parse(line);
+                //parse the XML into a marc record
+                builder.reset();
+                parsed = scanner.parse(line, builder);
             } catch(ParseException parseException) {
-                error_counter++;
-                ExceptionLogger.logException(parseException, current_file_number, line, progress_indicator_number, REJECTIONS_FILE);
+                batch.rejections.add(new Rejection(parseException, line, progress_indicator_number));
             }
 
+            //end of parsing is start of rendering
+            long render_start = parse_stage.record(parse_start, line.length);
 
-            if(root != null) {
+            if(parsed) {
 
                 try {
-                    //create marc record
-                    MarcRecord record = MarcRecord.create(root);
+                    //get marc record
+                    MarcRecord record = builder.getRecord();
                     if(record == null) {
                         throw new ParseException("Invalid marc record", -1);
                     } else {
-                        //write marc record to file
-                        record.writeToFile();
+                        //render marc record
+                        record.writeTo(batch.output);
                     }
                 } catch(Exception e) {
-                    error_counter++;
-                    ExceptionLogger.logException(e, current_file_number, line, progress_indicator_number, REJECTIONS_FILE);
+                    batch.rejections.add(new Rejection(e, line, progress_indicator_number));
                 }
-
-                //display the progress of the run
-                ProgressDisplayer.displayProgress(current_file_number, max_file_number, progress_indicator_number, start, MAX_LINES_IN_FILE);
+                render_stage.record(render_start, 0);
 
             }
+        }
+
+        //count processed lines, once per batch
+        progress.add(batch.lines.size());
+
+        //return processed batch
+        return(batch);
+    }
 
-            //read next line
-            line = reader.readLine();
+    /**
+     * Lines of the source file, processed by one worker, and the result of processing.
+     */
+    private static class RecordBatch {
+        //line number of the first line
+        private final long first_line_number;
+        //lines to be processed, as UTF-8 bytes
+        private final List<byte[]> lines;
+        //rendered output lines
+        private final MarcOutput output;
+        //rejected lines
+        private final List<Rejection> rejections;
+
+        //Constructor
+        RecordBatch(long first_line_number, List<byte[]> lines) {
+            this.first_line_number = first_line_number;
+            this.lines = lines;
+            this.output = new MarcOutput();
+            this.rejections = new ArrayList<>();
         }
+    }
 
-        //close the buffer
-        reader.close();
+    /**
+     * Rejected line and the cause of the rejection.
+     */
+    private static class Rejection {
+        private final Exception exception;
+        private final String line;
+        private final long line_number;
+
+        //Constructor
+        Rejection(Exception exception, byte[] line, long line_number) {
+            this.exception = exception;
+            this.line = new String(line, StandardCharsets.UTF_8);
+            this.line_number = line_number;
+        }
+    }
 
-        //remove file when no errors occurred
-        if(error_counter == 0) {
-            FileDeleter.deleteFile(file_name);
+    /**
+     * Number of processed lines and rejected lines.
+     */
+    private static class PipelineResult {
+        private long number_of_lines;
+        private int number_of_errors;
+
+        /**
+         * Add the numbers of another run of the pipeline, e.g. of the next chunk.
+         * @param result numbers to be added
+         */
+        private void add(PipelineResult result) {
+            number_of_lines += result.number_of_lines;
+            number_of_errors += result.number_of_errors;
         }
     }
 
+    /**
+     * Chunk of a source file with one marc record per line.
+     * Lines are read as UTF-8 bytes; end-of-line characters are not part of the line.
+     */
+    private static class LineSource implements MarcRecordSource {
+        //fixed values
+        private static final int READ_BUFFER_SIZE = 64*1024;
+
+        //source file, positioned at the start of the chunk
+        private final InputStream input;
+        //bytes read from source file
+        private final byte[] buffer;
+        private int buffer_length;
+        private int buffer_index;
+        //bytes of current line, grows for long lines
+        private byte[] line;
+        //number of lines still to be read from the chunk
+        private int remaining_lines;
+        //number of bytes of the chunk not yet read; the source file is not read beyond the end of the chunk
+        private long remaining_bytes;
+
+        //Constructor
+        LineSource(File source_file, SourceChunk chunk) throws IOException {
+            FileChannel channel = FileChannel.open(source_file.toPath(), StandardOpenOption.READ);
+            channel.position(chunk.getStartOffset());
+            this.input = Channels.newInputStream(channel);
+            this.buffer = new byte[READ_BUFFER_SIZE];
+            this.line = new byte[READ_BUFFER_SIZE];
+            this.remaining_lines = chunk.getNumberOfLines();
+            this.remaining_bytes = chunk.getEndOffset() - chunk.getStartOffset();
+        }
+
+        @Override
+        public String nextRecord() throws IOException {
+            byte[] bytes = nextRecordBytes();
+            return(bytes == null ? null : new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public byte[] nextRecordBytes() throws IOException {
+            //end of chunk
+            if(remaining_lines == 0) {
+                return(null);
+            }
+            remaining_lines--;
+
+            //copy bytes up to end-of-line
+            int line_length = 0;
+            while (true) {
+                //buffer empty: read next part of the chunk
+                if(buffer_index == buffer_length) {
+                    buffer_length = (remaining_bytes == 0) ? -1 : input.read(buffer, 0, (int) Math.min(buffer.length, remaining_bytes));
+                    buffer_index = 0;
+                    if(buffer_length > 0) remaining_bytes -= buffer_length;
+                    if(buffer_length <= 0) {
+                        buffer_length = 0;
+                        //end of chunk: last line without end-of-line
+                        if(line_length == 0) return(null);
+                        break;
+                    }
+                }
+
+                //find end-of-line in buffer
+                int end = buffer_index;
+                while (end < buffer_length && buffer[end] != '\n') {
+                    end++;
+                }
+
+                //copy bytes into line
+                int size = end - buffer_index;
+                if(line_length + size > line.length) {
+                    line = Arrays.copyOf(line, Math.max(line_length + size, 2 * line.length));
+                }
+                System.arraycopy(buffer, buffer_index, line, line_length, size);
+                line_length += size;
+                buffer_index = end;
+
+                //end-of-line found: skip it
+                if(end < buffer_length) {
+                    buffer_index++;
+                    break;
+                }
+            }
+
+            //remove carriage return before end-of-line
+            if(line_length > 0 && line[line_length - 1] == '\r') {
+                line_length--;
+            }
+
+            //return line
+            return(Arrays.copyOf(line, line_length));
+        }
 
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,259 @@
+package RISMCollection;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Extract marc records from a memory-mapped marc collection, one record at a time.
+ * The collection file is mapped in windows; record boundaries are found on the UTF-8 bytes,
+ * and only the bytes of a complete record are decoded into a string, or handed over as bytes.
+ */
+public class MappedMarcRecordExtractor implements MarcRecordSource {
+
+    //fixed values
+    private static final int WINDOW_SIZE = 64*1024*1024;
+    private static final int RECORD_BUFFER_SIZE = 64*1024;
+
+    //XML tokens, as UTF-8 bytes
+    private static final byte[] TOKEN_MARC_RECORD = MarcRecordExtractor.TOKEN_MARC_RECORD.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOKEN_MARC_RECORD_END = MarcRecordExtractor.TOKEN_MARC_RECORD_END.getBytes(StandardCharsets.UTF_8);
+
+    //mapped collection file
+    private final FileChannel channel;
+    private final long file_size;
+
+    //current window on the file
+    private MappedByteBuffer window;
+    private long window_offset;         //file position of the first byte in the window
+    private int window_size;            //size of a window, grows for records larger than a window
+
+    //file position where scanning continues
+    private long scan_position;
+
+    //bytes, decoder and characters of the current record
+    private byte[] record_bytes;
+    private final CharsetDecoder decoder;
+    private CharBuffer record_chars;
+
+    //Constructors
+    public MappedMarcRecordExtractor(File file) throws IOException {
+        this(file, WINDOW_SIZE);
+    }
+
+    MappedMarcRecordExtractor(File file, int window_size) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.file_size = channel.size();
+        this.window_size = window_size;
+        this.scan_position = 0;
+        this.decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.record_bytes = new byte[RECORD_BUFFER_SIZE];
+        this.record_chars = CharBuffer.allocate(RECORD_BUFFER_SIZE);
+        map(0);
+    }
+
+    /**
+     * Next marc record of the collection, from start token up to and including end token.
+     * End-of-line characters in the record are replaced by spaces.
+     * @return marc record, or null when there are no more complete records
+     * @throws IOException Error while reading from source
+     */
+    @Override
+    public String nextRecord() throws IOException {
+        //copy record bytes, and decode them
+        int length = nextRecordLength();
+        return(length < 0 ? null : createRecord(length));
+    }
+
+    /**
+     * Next marc record of the collection as UTF-8 bytes, without decoding.
+     * End-of-line characters in the record are replaced by spaces.
+     * @return marc record, or null when there are no more complete records
+     * @throws IOException Error while reading from source
+     */
+    @Override
+    public byte[] nextRecordBytes() throws IOException {
+        //copy record bytes
+        int length = nextRecordLength();
+        return(length < 0 ? null : Arrays.copyOf(record_bytes, length));
+    }
+
+    /**
+     * Find next marc record and copy its bytes into the record buffer.
+     * @return number of bytes of the record, or -1 when there are no more complete records
+     * @throws IOException Error while reading from source
+     */
+    private int nextRecordLength() throws IOException {
+
+        //find start of record
+        long record_start = find(TOKEN_MARC_RECORD, scan_position, -1);
+        if(record_start < 0) {
+            scan_position = file_size;
+            return(-1);
+        }
+
+        //find end of record; the window keeps the start of the record
+        long index = find(TOKEN_MARC_RECORD_END, record_start + TOKEN_MARC_RECORD.length, record_start);
+        if(index < 0) {
+            //unfinished record is dropped
+            scan_position = file_size;
+            return(-1);
+        }
+        long record_end = index + TOKEN_MARC_RECORD_END.length;
+
+        //continue after the record
+        scan_position = record_end;
+
+        //copy record
+        return(copyRecord(record_start, record_end));
+    }
+
+    /**
+     * Find token in the file, moving the window forward when needed.
+     * @param token token to be found
+     * @param from file position to start searching
+     * @param keep_from file position that has to stay in the window, or -1
+     * @return file position of token, or -1 when not found
+     * @throws IOException Error while mapping the file
+     */
+    private long find(byte[] token, long from, long keep_from) throws IOException {
+        while (true) {
+            //search in current window
+            long index = indexOf(token, from);
+            if(index >= 0) {
+                return(index);
+            }
+
+            //end of file reached
+            long window_end = window_offset + window.limit();
+            if(window_end >= file_size) {
+                return(-1);
+            }
+
+            //continue after the scanned part; keep a possible partial token at the end of the window
+            from = Math.max(from, window_end - token.length + 1);
+            map(keep_from >= 0 ? keep_from : from);
+        }
+    }
+
+    /**
+     * Map a window on the file.
+     * @param offset file position of the first byte in the window
+     * @throws IOException Error while mapping the file
+     */
+    private void map(long offset) throws IOException {
+        //window doesn't move: a record larger than the window; grow the window
+        if(window != null && offset == window_offset) {
+            if(window_size == Integer.MAX_VALUE) throw new IOException("Marc record larger than " + Integer.MAX_VALUE + " bytes at position " + offset);
+            window_size = (int) Math.min(2L * window_size, Integer.MAX_VALUE);
+        }
+
+        //map window
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(window_size, file_size - offset));
+        window_offset = offset;
+    }
+
+    /**
+     * Position of token in the current window.
+     * @param token token to be found
+     * @param from file position to start searching
+     * @return file position of token, or -1 when not found
+     */
+    private long indexOf(byte[] token, long from) {
+        byte first = token[0];
+        int last = window.limit() - token.length;
+
+        for(int index = (int) Math.max(from - window_offset, 0); index <= last; index++) {
+            //find first byte
+            if(window.get(index) != first) continue;
+
+            //compare remaining bytes
+            int token_index = 1;
+            while(token_index < token.length && window.get(index + token_index) == token[token_index]) {
+                token_index++;
+            }
+            if(token_index == token.length) {
+                return(window_offset + index);
+            }
+        }
+
+        //token not found
+        return(-1);
+    }
+
+    /**
+     * Copy record from the current window into the record buffer; end-of-line characters are replaced by spaces.
+     * @param start file position of start of record
+     * @param end file position of end of record (exclusive)
+     * @return number of bytes of the record
+     */
+    private int copyRecord(long start, long end) {
+        int length = (int) (end - start);
+
+        //record buffers too small: grow buffers; a UTF-8 byte never decodes into more than one character
+        if(record_bytes.length < length) {
+            record_bytes = new byte[Math.max(length, 2 * record_bytes.length)];
+            record_chars = CharBuffer.allocate(record_bytes.length);
+        }
+
+        //copy record bytes from window
+        window.get((int) (start - window_offset), record_bytes, 0, length);
+
+        //remove end-of-line characters, causes problems further on while saving into target file
+        for(int index = 0; index < length; index++) {
+            byte b = record_bytes[index];
+            if(b == '\r' || b == '\n') {
+                record_bytes[index] = ' ';
+            }
+        }
+
+        //return number of bytes
+        return(length);
+    }
+
+    /**
+     * Decode record from the record buffer.
+     * @param length number of bytes of the record
+     * @return marc record
+     */
+    private String createRecord(int length) {
+        //check for non-ASCII bytes
+        boolean ascii = true;
+        for(int index = 0; index < length && ascii; index++) {
+            ascii = record_bytes[index] >= 0;
+        }
+
+        //ASCII only: every byte is one character
+        if(ascii) {
+            return(new String(record_bytes, 0, length, StandardCharsets.ISO_8859_1));
+        }
+
+        //decode UTF-8 bytes into the character buffer
+        record_chars.clear();
+        decoder.reset();
+        decoder.decode(ByteBuffer.wrap(record_bytes, 0, length), record_chars, true);
+        decoder.flush(record_chars);
+
+        //return record
+        return(new String(record_chars.array(), 0, record_chars.position()));
+    }
+
+    /**
+     * Close the collection file.
+     * @throws IOException Error while closing file
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,176 @@
+package RISMCollection;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Extract marc records from a marc collection, one record at a time.
+ * The collection is read through a sliding buffer: every character is scanned once for record boundaries,
+ * and only the unfinished record is moved to the front of the buffer before the next part is read.
+ */
+public class MarcRecordExtractor implements MarcRecordSource {
+
+    //XML tokens
+    static final String TOKEN_MARC_RECORD = "<marc:record>";
+    static final String TOKEN_MARC_RECORD_END = "</marc:record>";
+
+    //source of the collection
+    private final Reader reader;
+
+    //sliding buffer with characters read from the source
+    private char[] buffer;
+    private int buffer_length;          //number of characters in buffer
+    private int scan_index;             //position in buffer where scanning continues
+    private int record_start;           //start of current record in buffer, or -1 when no record is started
+    private boolean end_of_input;       //all characters are read from the source
+
+    //Constructor
+    public MarcRecordExtractor(Reader reader, int buffer_size) {
+        this.reader = reader;
+        this.buffer = new char[buffer_size];
+        this.buffer_length = 0;
+        this.scan_index = 0;
+        this.record_start = -1;
+        this.end_of_input = false;
+    }
+
+    /**
+     * Next marc record of the collection, from start token up to and including end token.
+     * End-of-line characters in the record are replaced by spaces.
+     * @return marc record, or null when there are no more complete records
+     * @throws IOException Error while reading from source
+     */
+    @Override
+    public String nextRecord() throws IOException {
+
+        while (true) {
+
+            //find start of record
+            if(record_start < 0) {
+                int index = indexOf(TOKEN_MARC_RECORD, scan_index);
+                if(index >= 0) {
+                    record_start = index;
+                    scan_index = index + TOKEN_MARC_RECORD.length();
+                } else {
+                    //keep a possible partial token at the end of the buffer
+                    scan_index = Math.max(scan_index, buffer_length - TOKEN_MARC_RECORD.length() + 1);
+                }
+            }
+
+            //find end of record
+            if(record_start >= 0) {
+                int index = indexOf(TOKEN_MARC_RECORD_END, scan_index);
+                if(index >= 0) {
+                    //complete record
+                    int record_end = index + TOKEN_MARC_RECORD_END.length();
+                    String marc_record = createRecord(record_start, record_end);
+
+                    //continue after the record
+                    scan_index = record_end;
+                    record_start = -1;
+
+                    //return record
+                    return(marc_record);
+                }
+
+                //keep a possible partial token at the end of the buffer
+                scan_index = Math.max(scan_index, buffer_length - TOKEN_MARC_RECORD_END.length() + 1);
+            }
+
+            //no more characters: stop, an unfinished record is dropped
+            if(end_of_input) {
+                return(null);
+            }
+
+            //read next part of the source
+            fill();
+        }
+    }
+
+    /**
+     * Discard the processed part of the buffer and read the next part of the source.
+     * @throws IOException Error while reading from source
+     */
+    private void fill() throws IOException {
+
+        //first character to be kept: start of the unfinished record, or the unscanned part
+        int keep_from = (record_start >= 0) ? record_start : Math.max(0, Math.min(scan_index, buffer_length));
+
+        //move characters to be kept to the front of the buffer
+        if(keep_from > 0) {
+            System.arraycopy(buffer, keep_from, buffer, 0, buffer_length - keep_from);
+            buffer_length -= keep_from;
+            scan_index -= keep_from;
+            if(record_start >= 0) record_start -= keep_from;
+        }
+
+        //buffer full with one unfinished record: grow buffer
+        if(buffer_length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+        }
+
+        //read characters from source
+        int size = reader.read(buffer, buffer_length, buffer.length - buffer_length);
+        if(size < 0) {
+            end_of_input = true;
+        } else {
+            buffer_length += size;
+        }
+    }
+
+    /**
+     * Create record string from part of the buffer; end-of-line characters are replaced by spaces.
+     * @param start start of record in buffer
+     * @param end end of record in buffer (exclusive)
+     * @return marc record
+     */
+    private String createRecord(int start, int end) {
+        //remove end-of-line characters, causes problems further on while saving into target file
+        for(int index = start; index < end; index++) {
+            if(buffer[index] == '\r' || buffer[index] == '\n') {
+                buffer[index] = ' ';
+            }
+        }
+
+        //return record
+        return(new String(buffer, start, end - start));
+    }
+
+    /**
+     * Position of token in the filled part of the buffer.
+     * @param token token to be found
+     * @param from position to start searching
+     * @return position of token, or -1 when not found
+     */
+    private int indexOf(String token, int from) {
+        char first = token.charAt(0);
+        int last = buffer_length - token.length();
+
+        for(int index = Math.max(from, 0); index <= last; index++) {
+            //find first character
+            if(buffer[index] != first) continue;
+
+            //compare remaining characters
+            int token_index = 1;
+            while(token_index < token.length() && buffer[index + token_index] == token.charAt(token_index)) {
+                token_index++;
+            }
+            if(token_index == token.length()) {
+                return(index);
+            }
+        }
+
+        //token not found
+        return(-1);
+    }
+
+    /**
+     * Close the source.
+     * @throws IOException Error while closing source
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
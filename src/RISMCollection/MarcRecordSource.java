@@ -0,0 +1,30 @@
+package RISMCollection;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Source of marc records, extracted one at a time from a marc collection.
+ */
+public interface MarcRecordSource extends Closeable {
+
+    /**
+     * Next marc record of the collection, from start token up to and including end token.
+     * End-of-line characters in the record are replaced by spaces.
+     * @return marc record, or null when there are no more complete records
+     * @throws IOException Error while reading from source
+     */
+    String nextRecord() throws IOException;
+
+    /**
+     * Next marc record of the collection as UTF-8 bytes; a source reading bytes can skip decoding the record.
+     * @return marc record, or null when there are no more complete records
+     * @throws IOException Error while reading from source
+     */
+    default byte[] nextRecordBytes() throws IOException {
+        String marc_record = nextRecord();
+        return(marc_record == null ? null : marc_record.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
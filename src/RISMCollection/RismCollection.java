@@ -1,9 +1,13 @@
 package RISMCollection;
 
-import Utils.FileAppender;
+import Utils.FileWriterRegistry;
 import Utils.ProgressDisplayer;
+import Utils.ProgressReporter;
+import Utils.RunMetrics;
 
+import javax.management.JMException;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 
 
@@ -14,16 +18,15 @@ public class RismCollection {
     //fixed values
     private static final int INPUT_BUFFER_SIZE = 150000;
 
-    //XML tokens
-    private static final String TOKEN_MARC_RECORD = "<marc:record>";
-    private static final String TOKEN_MARC_RECORD_END = "</marc:record>";
-    private static final String TOKEN_MARC_COLLECTION_END = "</marc:collection>";
-    private static final String TOKEN_XML_HEADER = "<?xml";
+    //options
+    private static final String OPTION_MEMORY_MAPPED = "--mmap";
+    private static final String OPTION_METRICS = "--metrics=";
+    private static final String OPTION_JMX = "--jmx";
 
     public static void main(String[] args) {
         //check for number of arguments
         if(args.length<2){
-            System.out.println("Invalid number of arguments. Expected two arguments: source_file target_file");
+            System.out.println("Invalid number of arguments. Expected arguments: source_file target_file [" + OPTION_MEMORY_MAPPED + "] [" + OPTION_METRICS + "summary_file] [" + OPTION_JMX + "]");
             exit(1);
         }
 
@@ -31,6 +34,20 @@ public class RismCollection {
         String source_file_name = args[0];
         String target_file_name = args[1];
 
+        //options
+        boolean memory_mapped = false;                                      //read source file memory-mapped instead of through a reader
+        String metrics_file_name = null;                                    //file with the metrics of the run, JSON or CSV; no metrics file when null
+        boolean jmx = false;                                                //metrics readable over JMX during the run
+        for (int index = 2; index < args.length; index++) {
+            if(args[index].equals(OPTION_MEMORY_MAPPED)) {
+                memory_mapped = true;
+            } else if(args[index].equals(OPTION_JMX)) {
+                jmx = true;
+            } else if(args[index].startsWith(OPTION_METRICS)) {
+                metrics_file_name = args[index].substring(OPTION_METRICS.length());
+            }
+        }
+
         //source file
         File source_file = new File(source_file_name);
 
@@ -60,108 +77,65 @@ public class RismCollection {
             //start duration measurement
             Instant start = Instant.now();
 
+            //start measuring the run
+            RunMetrics.start(RismCollection.class.getSimpleName(), source_file_name);
+            if(jmx) {
+                try {
+                    RunMetrics.registerMBean();
+                } catch (JMException e) {
+                    ProgressDisplayer.displayError("Metrics not available over JMX: " + e.getMessage());
+                }
+            }
+            RunMetrics.Stage read_stage = RunMetrics.stage(RunMetrics.STAGE_READ);
+            RunMetrics.Stage write_stage = RunMetrics.stage(RunMetrics.STAGE_WRITE);
+
             //progress indicator number
             long progress_indicator_number = 0;
 
-            //string that still needs to be processed
-            String to_be_processed = "";
+            //extract records from source file, one at a time; progress is reported in the background
+            try (MarcRecordSource extractor = createRecordSource(source_file, memory_mapped);
+                 ProgressReporter progress = new ProgressReporter()) {
+                progress.startFile(source_file_name, null, 0);
+
+                //first record
+                long read_start = System.nanoTime();
+                String marc_record = extractor.nextRecord();
+
+                //process until no more records
+                while (marc_record != null) {
 
-            //read source file in parts
-            BufferedReader br = new BufferedReader(new FileReader(source_file), INPUT_BUFFER_SIZE);
+                    //end of reading is start of writing
+                    long write_start = read_stage.record(read_start, marc_record.length());
 
-            //flag to indicated if outer loop needs to stop
-            boolean stop_outer_loop = false;
+                    //create line
+                    StringBuilder line = new StringBuilder(marc_record.length() + 1).append(marc_record).append('\n');
 
-            //keep reading data from file until flag indicates: stop
-            while (!stop_outer_loop) {
+                    //write to target file
+                    FileWriterRegistry.appendFile(target_file_name, null, line);
+                    write_stage.record(write_start, line.length());
 
-                //memory space to store the buffer read from file
-                char[] buffer_array = new char[INPUT_BUFFER_SIZE];
-                //read next buffer from file
-                int size = br.read(buffer_array);
-                //if buffer is empty: stop reading from file
-                if (size <= 0) {
-                    stop_outer_loop = true;
-                    continue;
+                    //count processed record
+                    progress_indicator_number++;
+                    progress.increment();
+
+                    //next record
+                    read_start = System.nanoTime();
+                    marc_record = extractor.nextRecord();
                 }
 
-                //transform buffer into String
-                String buffer = new String(buffer_array);
-                //remove end-of-line characters from buffer, causes problems further on while saving into target file
-                buffer = buffer.replace("\r", " ");
-                buffer = buffer.replace("\n", " ");
-
-                //add buffer to string that needs to be processed
-                to_be_processed = to_be_processed.concat(buffer);
-
-                //start value for flag indicating that there is still a part of the string to be processed before the next buffer needs to be read from source file
-                boolean stop_inner_loop = false;
-
-                //process string until the flag indicates: stop
-                while (!stop_inner_loop) {
-                    //split string on token marc:record; first part is full record, second part will be processed in next iteration of the inner loop
-                    String[] buffer_part = to_be_processed.split(TOKEN_MARC_RECORD, 2);
-
-                    //store first part
-                    String first_part = buffer_part[0];
-                    //second part can be empty: last record
-                    String second_part = null;
-                    if (buffer_part.length == 2) {
-                        //store remaining part after the split
-                        second_part = buffer_part[1];
-                    } else {
-                        //last record is processed: stop the inner loop
-                        stop_inner_loop = true;
-                    }
-
-                    //do not process xml header
-                    if (first_part.contains(TOKEN_XML_HEADER)) {
-                        //store the remainder after the split into string to be processed for next iteration of the inner loop
-                        to_be_processed = second_part;
-                        continue;
-                    }
-
-                    //create full marc record: add token upfront
-                    String marc_record = TOKEN_MARC_RECORD.concat(first_part);
-
-                    //when marc record is complete: write to target file
-                    if (marc_record.contains(TOKEN_MARC_RECORD_END)) {
-                        //last record contains collection end, that needs to be stripped
-                        if(marc_record.contains((TOKEN_MARC_COLLECTION_END))) {
-                            String[] marc_record_part = marc_record.split(TOKEN_MARC_COLLECTION_END, 2);
-                            //first part is complete mark record; second part is collection end token
-                            marc_record = marc_record_part[0];
-                        }
-
-                        //create line
-                        StringBuilder line = new StringBuilder().append(marc_record).append('\n');
-
-                        //write to target file
-                        FileAppender.appendFile(target_file_name, line);
-
-                        //periodically print progress in number of processed records
-                        ProgressDisplayer.displayProgress(source_file_name, ++progress_indicator_number, start);
-
-                    }
-
-                    //last record is processed, no further records to be processed: break out of inner loop
-                    if(stop_inner_loop) {
-                        continue;
-                    }
-
-                    //still records to be processed
-                    to_be_processed = second_part;
-
-                    //when string to be processed doesn't contain marc:record or collection end (in case of last record), next buffer needs to read from source file
-                    if (!to_be_processed.contains(TOKEN_MARC_RECORD)&&!to_be_processed.contains(TOKEN_MARC_COLLECTION_END)){
-                        stop_inner_loop = true;
-                    }
+                //rows of the target file
+                RunMetrics.countRows(target_file_name, progress_indicator_number);
+
+            } finally {
+                //flush and close target file
+                FileWriterRegistry.closeAll();
+
+                //write metrics of the run, next to the target file
+                if(metrics_file_name != null) {
+                    RunMetrics.writeSummary(RunMetrics.summaryFile(metrics_file_name, new File(target_file_name).getAbsoluteFile().getParentFile()).getPath());
                 }
             }
 
-            //close the buffer
-            br.close();
-
             //duration measurement
             ProgressDisplayer.displayTotalDuration(progress_indicator_number, start);
 
@@ -170,4 +144,18 @@ public class RismCollection {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Create the source of marc records for the collection file.
+     * @param source_file marc collection file
+     * @param memory_mapped true: map the file into memory and decode only the records; false: read the file through a UTF-8 reader
+     * @return source of marc records
+     * @throws IOException Error while opening the file
+     */
+    public static MarcRecordSource createRecordSource(File source_file, boolean memory_mapped) throws IOException {
+        if(memory_mapped) {
+            return(new MappedMarcRecordExtractor(source_file));
+        }
+        return(new MarcRecordExtractor(new FileReader(source_file, StandardCharsets.UTF_8), INPUT_BUFFER_SIZE));
+    }
+
+}
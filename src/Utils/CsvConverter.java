@@ -12,21 +12,11 @@ public class CsvConverter {
         if(string == null) return "";
 
         //output buffer
-        char[] buffer = new char[2*string.length()];
-        //index in buffer
-        int buffer_index = 0;
-
-        //traverse through string and double a double quote
-        for(int string_index = 0; string_index < string.length(); string_index++) {
-            char c = string.charAt(string_index);
-            buffer[buffer_index++] = c;
-            if(c == '"') {
-                buffer[buffer_index++] = '"';
-            }
-        }
+        StringBuilder buffer = new StringBuilder(string.length());
+        appendEscaped(buffer, string);
 
         //return formatted string
-        return(new String(buffer).trim());
+        return(buffer.toString());
     }
 
     /**
@@ -36,10 +26,57 @@ public class CsvConverter {
      */
     public static String asCsvString(String string) {
         StringBuilder outputString = new StringBuilder();
-        outputString
-                .append("\"")
-                .append(convertToCsv(string))
-                .append("\"");
+        appendCsvString(outputString, string);
         return outputString.toString();
     }
+
+    /**
+     * Append string with double quotes for CSV to output, without intermediate strings.
+     * Leading and trailing whitespace is removed and double quotes are doubled; null is appended as an empty string.
+     * @param output output to be extended
+     * @param string string to receive double quotes
+     */
+    public static void appendCsvString(StringBuilder output, String string) {
+        output.append('"');
+        if(string != null) {
+            appendEscaped(output, string);
+        }
+        output.append('"');
+    }
+
+    /**
+     * Append trimmed string to output and double a double quote.
+     * @param output output to be extended
+     * @param string string to be formatted
+     */
+    private static void appendEscaped(StringBuilder output, String string) {
+        //trim: skip leading and trailing whitespace
+        int start = 0;
+        int end = string.length();
+        while (start < end && string.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && string.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        //first double quote
+        int quote = string.indexOf('"', start);
+
+        //no double quote: append string unchanged
+        if(quote < 0 || quote >= end) {
+            output.append(string, start, end);
+            return;
+        }
+
+        //traverse through string and double a double quote
+        output.append(string, start, quote);
+        for(int string_index = quote; string_index < end; string_index++) {
+            char c = string.charAt(string_index);
+            output.append(c);
+            if(c == '"') {
+                output.append('"');
+            }
+        }
+    }
 }
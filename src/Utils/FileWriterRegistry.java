@@ -0,0 +1,69 @@
+package Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FileWriterRegistry {
+
+    //end-of-line after header
+    private static final String END_OF_LINE = "\n";
+
+    //open files per file name
+    private static final Map<String, Utf8FileSink> writers = new HashMap<>();
+
+    /**
+     * Append text to file, encoded as UTF-8. The file is opened once, and stays open until closeAll() is called.
+     * When the file doesn't exist at the moment it is opened, the header line is written first.
+     * @param filename Name of file
+     * @param header Header line of file, without end-of-line; or null when no header is needed
+     * @param text Text to be added to file
+     * @throws IOException Error while adding text to file
+     */
+    public static synchronized void appendFile(String filename, String header, CharSequence text) throws IOException {
+        //open writer for file
+        Utf8FileSink writer = writers.get(filename);
+
+        //first write to this file: open file for append - UTF-8
+        if(writer == null) {
+            //header is needed when file doesn't exist yet
+            boolean write_header = header != null && !new File(filename).exists();
+
+            //open file
+            writer = new Utf8FileSink(new File(filename));
+            writers.put(filename, writer);
+
+            //write header line
+            if(write_header) {
+                writer.append(header);
+                writer.append(END_OF_LINE);
+            }
+        }
+
+        //write text
+        writer.append(text);
+    }
+
+    /**
+     * Flush and close all open files.
+     * @throws IOException Error while closing a file; all files are closed nevertheless
+     */
+    public static synchronized void closeAll() throws IOException {
+        //first error while closing
+        IOException exception = null;
+
+        //close every writer
+        for(Utf8FileSink writer : writers.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if(exception == null) exception = e;
+            }
+        }
+        writers.clear();
+
+        //report first error
+        if(exception != null) throw exception;
+    }
+}
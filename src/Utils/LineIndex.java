@@ -0,0 +1,241 @@
+package Utils;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index with the byte offset of every line start in a file.
+ * The index is cached next to the file; the cache is used as long as size and modification time of the file don't change.
+ */
+public class LineIndex {
+
+    //fixed values
+    private static final int READ_BUFFER_SIZE = 64*1024;
+    private static final String INDEX_FILE_EXTENSION = ".idx";
+    private static final int INDEX_FILE_MAGIC = 0x4C494458;  //"LIDX"
+    private static final int INDEX_FILE_VERSION = 1;
+
+    //attributes
+    private final File file;
+    private final long fileSize;
+    private final long lastModified;
+    private final long[] lineOffsets;   //start offset of every line; only the first numberOfLines are used
+    private final int numberOfLines;
+
+    //Getters
+    public int getNumberOfLines() {
+        return numberOfLines;
+    }
+
+    //Constructor
+    private LineIndex(File file, long fileSize, long lastModified, long[] lineOffsets, int numberOfLines) {
+        this.file = file;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.lineOffsets = lineOffsets;
+        this.numberOfLines = numberOfLines;
+    }
+
+    /**
+     * Get line index of file: from the cached index when the file didn't change, otherwise by scanning the file.
+     * A newly built index is stored as cache next to the file.
+     * @param file_name name of the file
+     * @return line index
+     * @throws IOException Error while reading the file
+     */
+    public static LineIndex load(String file_name) throws IOException {
+        File file = new File(file_name);
+        File index_file = new File(file_name + INDEX_FILE_EXTENSION);
+
+        //use cached index when valid
+        LineIndex index = readIndexFile(index_file, file);
+        if(index != null) {
+            return(index);
+        }
+
+        //scan file
+        index = build(file);
+
+        //store index for next run; index without cache is still usable
+        try {
+            index.writeIndexFile(index_file);
+        } catch (IOException e) {
+            ProgressDisplayer.displayError("Line index not cached: " + e.getMessage());
+        }
+
+        //return index
+        return(index);
+    }
+
+    /**
+     * Build line index by scanning the file for end-of-line characters.
+     * @param file file to be scanned
+     * @return line index
+     * @throws IOException Error while reading the file
+     */
+    public static LineIndex build(File file) throws IOException {
+        //modification time before reading
+        long last_modified = file.lastModified();
+
+        //line offsets
+        long[] offsets = new long[1024];
+        int count = 0;
+
+        try(InputStream is = new FileInputStream(file)) {
+            byte[] c = new byte[READ_BUFFER_SIZE];
+
+            //position in file
+            long position = 0;
+            //start of next line
+            long line_start = 0;
+
+            int readChars;
+            while ((readChars = is.read(c)) != -1) {
+                for (int i = 0; i < readChars; i++) {
+                    if (c[i] == '\n') {
+                        //store start of line
+                        if(count == offsets.length) offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+                        offsets[count++] = line_start;
+                        line_start = position + i + 1;
+                    }
+                }
+                position += readChars;
+            }
+
+            //last line without end-of-line
+            if(position > line_start) {
+                if(count == offsets.length) offsets = Arrays.copyOf(offsets, count + 1);
+                offsets[count++] = line_start;
+            }
+
+            //return index
+            return(new LineIndex(file, position, last_modified, offsets, count));
+        }
+    }
+
+    /**
+     * Start offset of a line.
+     * @param line line number, starting at 0
+     * @return byte offset of the start of the line
+     */
+    public long lineOffset(int line) {
+        if(line < 0 || line > numberOfLines) throw new IndexOutOfBoundsException("Line " + line + " of " + numberOfLines);
+        return(line == numberOfLines ? fileSize : lineOffsets[line]);
+    }
+
+    /**
+     * Divide file into chunks with a fixed number of lines.
+     * @param number_of_lines number of lines in a chunk; the last chunk can contain fewer lines
+     * @return chunks in file order
+     */
+    public List<SourceChunk> chunks(int number_of_lines) {
+        //check parameter value
+        if(number_of_lines <= 0) throw new RuntimeException("number_of_lines is invalid");
+
+        //list with chunks
+        List<SourceChunk> chunks = new ArrayList<>();
+        for(int first_line = 0; first_line < numberOfLines; first_line += number_of_lines) {
+            int end_line = Math.min(first_line + number_of_lines, numberOfLines);
+            chunks.add(createChunk(chunks.size(), first_line, end_line));
+        }
+
+        //return list
+        return(chunks);
+    }
+
+    /**
+     * Read one line of the indexed file, without reading the lines before it.
+     * @param line line number, starting at 0
+     * @return line, or null when the file has fewer lines
+     * @throws IOException Error while reading the file
+     */
+    public String readLine(int line) throws IOException {
+        //line doesn't exist
+        if(line < 0 || line >= numberOfLines) {
+            return(null);
+        }
+
+        //seek to start of line
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            channel.position(lineOffsets[line]);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            return(reader.readLine());
+        }
+    }
+
+    /**
+     * Create chunk from a range of lines.
+     * @param number sequence number of chunk
+     * @param first_line first line of chunk
+     * @param end_line first line after the chunk
+     * @return chunk
+     */
+    private SourceChunk createChunk(int number, int first_line, int end_line) {
+        return(new SourceChunk(String.format("%04d", number), lineOffset(first_line), lineOffset(end_line), end_line - first_line));
+    }
+
+    /**
+     * Read cached index from file.
+     * @param index_file file containing the cached index
+     * @param file indexed file
+     * @return cached index, or null when the cache doesn't exist or is outdated
+     */
+    private static LineIndex readIndexFile(File index_file, File file) {
+        //current size and modification time of the indexed file
+        long file_size = file.length();
+        long last_modified = file.lastModified();
+
+
+        //no cache
+        if(!index_file.isFile()) {
+            return(null);
+        }
+
+        try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(index_file), READ_BUFFER_SIZE))) {
+            //check cache
+            if(in.readInt() != INDEX_FILE_MAGIC || in.readInt() != INDEX_FILE_VERSION) return(null);
+            if(in.readLong() != file_size || in.readLong() != last_modified) return(null);
+
+            //line offsets, stored as line lengths
+            int count = in.readInt();
+            long[] offsets = new long[count];
+            long offset = 0;
+            for(int line = 0; line < count; line++) {
+                offsets[line] = offset;
+                offset += in.readInt();
+            }
+
+            //return cached index
+            return(new LineIndex(file, file_size, last_modified, offsets, count));
+        } catch (IOException e) {
+            //unreadable cache: build new index
+            return(null);
+        }
+    }
+
+    /**
+     * Write index to cache file.
+     * @param index_file file to contain the cached index
+     * @throws IOException Error while writing the file
+     */
+    private void writeIndexFile(File index_file) throws IOException {
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(index_file), READ_BUFFER_SIZE))) {
+            out.writeInt(INDEX_FILE_MAGIC);
+            out.writeInt(INDEX_FILE_VERSION);
+            out.writeLong(fileSize);
+            out.writeLong(lastModified);
+
+            //line offsets, stored as line lengths
+            out.writeInt(numberOfLines);
+            for(int line = 0; line < numberOfLines; line++) {
+                out.writeInt((int) (lineOffset(line + 1) - lineOffsets[line]));
+            }
+        }
+    }
+}
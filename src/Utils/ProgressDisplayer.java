@@ -8,144 +8,81 @@ import java.util.concurrent.TimeUnit;
 
 public class ProgressDisplayer {
 
-    //fixed values
-    private static final int OUTPUT_INDICATOR_INTERVAL = 100;
-    //store values of previous duration display
-    private static long previous_duration_seconds = 0;
-    private static long previous_progress_indicator_number = 0;
-
     /**
-     * Periodically print progress in number of processed records.
+     * Progress line: number of processed records and elapsed time.
      * @param file_number File number of file in progress
      * @param progress_indicator_number Number of records processed
-     * @param start timestamp when run started
+     * @param elapsed_time elapsed time in milliseconds
+     * @return progress line, starting with a carriage return to overwrite the previous line
      */
-    public static void displayProgress(String file_number, long progress_indicator_number, Instant start) {
-        //duration measurement
-        Instant now = Instant.now();
-
-        //duration in seconds
-        long duration_seconds = Duration.between(start,now).toSeconds();
-
-        //only display rounded progress amounts
-        if (progress_indicator_number % OUTPUT_INDICATOR_INTERVAL == 0) {
-            previous_progress_indicator_number = progress_indicator_number;
-        }
-
-        //periodically print progress in number of processed records
-        if(duration_seconds >= previous_duration_seconds) {
-            long elapsed_time = Duration.between(start, now).toMillis();
-            //printable time conversion
-            long elapsed_hours = TimeUnit.MILLISECONDS.toHours(elapsed_time);
-            long elapsed_minutes = (TimeUnit.MILLISECONDS.toMinutes(elapsed_time) % 60);
-            long elapsed_seconds = (TimeUnit.MILLISECONDS.toSeconds(elapsed_time) % 60);
-
-            //Carriage return: overwrite previous text
-            System.out.print('\r');
-            //Print information line
-            System.out.print("File: ");
-            System.out.print(file_number);
-            System.out.print(". Processing record: ");
-            System.out.print(previous_progress_indicator_number);
-            System.out.print(". Elapsed time: ");
-            System.out.print(elapsed_hours);
-            System.out.print(":");
-            if (elapsed_minutes <= 9) System.out.print("0");
-            System.out.print(elapsed_minutes);
-            System.out.print(":");
-            if (elapsed_seconds <= 9) System.out.print("0");
-            System.out.print(elapsed_seconds);
-            System.out.print(".");
-        }
+    public static String progressLine(String file_number, long progress_indicator_number, long elapsed_time) {
+        StringBuilder line = new StringBuilder(100);
 
-        //store for next display
-        previous_duration_seconds = duration_seconds;
-
-    }
-
-    /**
-     * Initialize values used by display progress
-     */
-    public static void initializeProgressValues() {
-        previous_duration_seconds = 0;
-        previous_progress_indicator_number = 0;
+        //Carriage return: overwrite previous text
+        line.append('\r');
+        //information line
+        line.append("File: ").append(file_number);
+        line.append(". Processing record: ").append(progress_indicator_number);
+        line.append(". Elapsed time: ");
+        appendTime(line, elapsed_time);
+        line.append('.');
+
+        //return line
+        return(line.toString());
     }
 
     /**
-     * Periodically print progress in number of processed records.
+     * Progress line: number of processed records, percentages of files and records, elapsed and remaining time.
      * @param file_number File number of file in progress
      * @param max_file_number Maximal number of files to be processed
+     * @param files_percentage fraction of the files processed, including the file in progress
      * @param progress_indicator_number Number of records processed
-     * @param start timestamp when run started
+     * @param elapsed_time elapsed time in milliseconds
      * @param max_lines maximum of lines to be processed
+     * @return progress line, starting with a carriage return to overwrite the previous line
      */
-    public static void displayProgress(String file_number, String max_file_number, long progress_indicator_number, Instant start, long max_lines) {
-        //duration measurement
-        Instant now = Instant.now();
-
-        //elapsed time in milliseconds
-        long elapsed_time = Duration.between(start, now).toMillis();
-
-        //periodically print progress in number of processed records
-        if(elapsed_time >= previous_duration_seconds * 1000) {
-
-            //printable time conversion
-            long elapsed_hours = TimeUnit.MILLISECONDS.toHours(elapsed_time);
-            long elapsed_minutes = (TimeUnit.MILLISECONDS.toMinutes(elapsed_time) % 60);
-            long elapsed_seconds = (TimeUnit.MILLISECONDS.toSeconds(elapsed_time) % 60);
+    public static String progressLine(String file_number, String max_file_number, double files_percentage, long progress_indicator_number, long elapsed_time, long max_lines) {
+        StringBuilder line = new StringBuilder(150);
 
-            //calculate progress percentage
-            double progress_percentage = (double) progress_indicator_number / (double) max_lines;
-            double files_percentage = (Double.parseDouble(file_number) + 1) / (Double.parseDouble(max_file_number) + 1);
+        //calculate progress percentage
+        double progress_percentage = (double) progress_indicator_number / (double) max_lines;
 
-            //calculate remaining time
-            long expected_remaining_time = ((long) ((double) elapsed_time / progress_percentage)) - elapsed_time;
+        //calculate remaining time
+        long expected_remaining_time = progress_percentage > 0 ? ((long) ((double) elapsed_time / progress_percentage)) - elapsed_time : 0;
 
-            //printable remaining time
-            long remaining_hours = TimeUnit.MILLISECONDS.toHours(expected_remaining_time);
-            long remaining_minutes = (TimeUnit.MILLISECONDS.toMinutes(expected_remaining_time) % 60);
-            long remaining_seconds = (TimeUnit.MILLISECONDS.toSeconds(expected_remaining_time) % 60);
-
-            //store progress for next display progress
-            previous_progress_indicator_number = progress_indicator_number;
-
-            //Carriage return: overwrite previous text
-            System.out.print('\r');
-            //Print information line
-            System.out.print("File: ");
-            System.out.print(file_number);
-            System.out.print("/");
-            System.out.print(max_file_number);
-            System.out.print(" (");
-            System.out.printf("%.1f",100*files_percentage);
-            System.out.print("%)");
-            System.out.print(". Processing record: ");
-            System.out.print(previous_progress_indicator_number);
-            System.out.print(" (");
-            System.out.printf("%.1f",100*progress_percentage);
-            System.out.print("%)");
-            System.out.print(". Elapsed time: ");
-            System.out.print(elapsed_hours);
-            System.out.print(":");
-            if (elapsed_minutes <= 9) System.out.print("0");
-            System.out.print(elapsed_minutes);
-            System.out.print(":");
-            if (elapsed_seconds <= 9) System.out.print("0");
-            System.out.print(elapsed_seconds);
-            System.out.print(". Remaining time: ");
-            System.out.print(remaining_hours);
-            System.out.print(":");
-            if (remaining_minutes <= 9) System.out.print("0");
-            System.out.print(remaining_minutes);
-            System.out.print(":");
-            if (remaining_seconds <= 9) System.out.print("0");
-            System.out.print(remaining_seconds);
-            System.out.print(".");
-        }
-
-        //store for next display
-        previous_duration_seconds = TimeUnit.MILLISECONDS.toSeconds(elapsed_time);
+        //Carriage return: overwrite previous text
+        line.append('\r');
+        //information line
+        line.append("File: ").append(file_number).append('/').append(max_file_number);
+        line.append(" (").append(String.format("%.1f", 100*files_percentage)).append("%)");
+        line.append(". Processing record: ").append(progress_indicator_number);
+        line.append(" (").append(String.format("%.1f", 100*progress_percentage)).append("%)");
+        line.append(". Elapsed time: ");
+        appendTime(line, elapsed_time);
+        line.append(". Remaining time: ");
+        appendTime(line, expected_remaining_time);
+        line.append('.');
+
+        //return line
+        return(line.toString());
+    }
 
+    /**
+     * Append printable time: hours, minutes and seconds.
+     * @param line line to be extended
+     * @param time time in milliseconds
+     */
+    private static void appendTime(StringBuilder line, long time) {
+        //printable time conversion
+        long hours = TimeUnit.MILLISECONDS.toHours(time);
+        long minutes = (TimeUnit.MILLISECONDS.toMinutes(time) % 60);
+        long seconds = (TimeUnit.MILLISECONDS.toSeconds(time) % 60);
+
+        line.append(hours).append(':');
+        if (minutes <= 9) line.append('0');
+        line.append(minutes).append(':');
+        if (seconds <= 9) line.append('0');
+        line.append(seconds);
     }
 
     /**
@@ -154,6 +91,16 @@ public class ProgressDisplayer {
      * @param start timestamp when run started
      */
     public static void displayTotalDuration(long number, Instant start) {
+        displayTotalDuration(number, 0, start);
+    }
+
+    /**
+     * Print tot duration of run, with the number of rejected records
+     * @param number Number of records processed
+     * @param number_of_errors Number of rejected records, not printed when 0
+     * @param start timestamp when run started
+     */
+    public static void displayTotalDuration(long number, long number_of_errors, Instant start) {
         //duration measurement
         Instant finish = Instant.now();
         long elapsed_time = Duration.between(start, finish).toMillis();
@@ -167,7 +114,13 @@ public class ProgressDisplayer {
         //Print information line
         System.out.print("Processed ");
         System.out.print(number);
-        System.out.print(" records in ");
+        System.out.print(" records");
+        if (number_of_errors > 0) {
+            System.out.print(" (");
+            System.out.print(number_of_errors);
+            System.out.print(" rejected)");
+        }
+        System.out.print(" in ");
         System.out.print(elapsed_days);
         System.out.print(" days ");
         if (elapsed_hours <= 9) System.out.print("0");
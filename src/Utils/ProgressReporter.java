@@ -0,0 +1,140 @@
+package Utils;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Report the progress of a run from a background thread.
+ * Threads processing records only add to a counter; the reporter thread samples the counter at a fixed interval
+ * and prints a progress line. Counting is safe from several threads at the same time, e.g. from all workers.
+ * <br/>
+ * The progress is reported per file: startFile() starts counting the records of the next file.
+ */
+public class ProgressReporter implements Closeable {
+
+    //fixed values
+    private static final long REPORT_INTERVAL_MILLIS = 1000;
+
+    //file in progress; replaced as a whole when the next file is started
+    private volatile FileProgress file_progress;
+
+    //reporter thread
+    private final Thread reporter;
+    private volatile boolean running;
+
+    //Constructor: starts the reporter thread
+    public ProgressReporter() {
+        this.running = true;
+        this.reporter = new Thread(this::report, "progress");
+        this.reporter.setDaemon(true);
+        this.reporter.start();
+    }
+
+    /**
+     * Start counting the records of a file.
+     * @param file_number file number of the file, used in the progress line
+     * @param max_file_number maximal file number, or null when unknown: the progress line then shows no percentages
+     * @param max_records maximum of records in the file, used for the percentage of records and the remaining time
+     */
+    public void startFile(String file_number, String max_file_number, long max_records) {
+        file_progress = new FileProgress(file_number, max_file_number, max_records);
+    }
+
+    /**
+     * Count a processed record of the file in progress.
+     */
+    public void increment() {
+        file_progress.records.increment();
+    }
+
+    /**
+     * Count processed records of the file in progress.
+     * @param number_of_records number of records
+     */
+    public void add(long number_of_records) {
+        file_progress.records.add(number_of_records);
+    }
+
+    /**
+     * Stop the reporter thread; no progress is printed after this call.
+     */
+    @Override
+    public void close() {
+        running = false;
+        reporter.interrupt();
+        try {
+            reporter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reporter thread: print the progress of the file in progress at every interval, until closed.
+     */
+    private void report() {
+        while (running) {
+            try {
+                Thread.sleep(REPORT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            //print progress of the file in progress
+            FileProgress progress = file_progress;
+            if(running && progress != null) {
+                System.out.print(progress.line());
+                System.out.flush();
+            }
+        }
+    }
+
+    /**
+     * Progress of one file: records counted since the start of the file.
+     */
+    private static class FileProgress {
+        private final String file_number;
+        private final String max_file_number;
+        private final double files_percentage;
+        private final long max_records;
+        private final long start_nanos;
+        private final LongAdder records;
+
+        //Constructor
+        FileProgress(String file_number, String max_file_number, long max_records) {
+            this.file_number = file_number;
+            this.max_file_number = max_file_number;
+            this.files_percentage = max_file_number == null ? 0 : filesPercentage(file_number, max_file_number);
+            this.max_records = max_records;
+            this.start_nanos = System.nanoTime();
+            this.records = new LongAdder();
+        }
+
+        /**
+         * Progress line of the file.
+         * @return progress line
+         */
+        String line() {
+            long elapsed_time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start_nanos);
+            if(max_file_number == null) {
+                return(ProgressDisplayer.progressLine(file_number, records.sum(), elapsed_time));
+            }
+            return(ProgressDisplayer.progressLine(file_number, max_file_number, files_percentage, records.sum(), elapsed_time, max_records));
+        }
+
+        /**
+         * Fraction of the files processed, including the file in progress.
+         * @param file_number file number of the file in progress
+         * @param max_file_number maximal file number
+         * @return fraction of files, 0 when the file numbers aren't numbers
+         */
+        private static double filesPercentage(String file_number, String max_file_number) {
+            try {
+                return((Double.parseDouble(file_number) + 1) / (Double.parseDouble(max_file_number) + 1));
+            } catch (NumberFormatException e) {
+                return(0);
+            }
+        }
+    }
+}
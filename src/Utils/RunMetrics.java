@@ -0,0 +1,507 @@
+package Utils;
+
+import javax.management.*;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a conversion run: per stage the number of operations, records and bytes, and a histogram of the latencies;
+ * per output file the number of rows.
+ * Stages are measured by the threads that run them; counters can be updated by several threads without locking.
+ * At the end of the run a summary can be written as JSON, or as CSV when the file name ends with .csv.
+ * During the run the metrics can be read over JMX.
+ */
+public class RunMetrics {
+
+    //stages of a run
+    public static final String STAGE_CHUNK = "chunk";       //divide source file into chunks
+    public static final String STAGE_READ = "read";         //read records from the source
+    public static final String STAGE_PARSE = "parse";       //parse a record into the marc model
+    public static final String STAGE_RENDER = "render";     //render the output lines of a record
+    public static final String STAGE_WRITE = "write";       //write output lines to the output files
+    public static final String STAGE_REJECT = "reject";     //log a rejected record; its records are the rejected lines
+
+    //summary file when the metrics option has no file name
+    public static final String SUMMARY_FILE = "metrics.json";
+
+    //fixed values
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String MBEAN_NAME = "marccsv:type=RunMetrics";
+
+    //run: name of command and source, start time
+    private static volatile String command;
+    private static volatile String source;
+    private static volatile long start_nanos = System.nanoTime();
+
+    //stages by name
+    private static final Map<String, Stage> stages = new ConcurrentHashMap<>();
+
+    //rows per output file
+    private static final Map<String, LongAdder> rows = new ConcurrentHashMap<>();
+
+    //No instances
+    private RunMetrics() {}
+
+    /**
+     * Start measuring a run: all metrics are cleared.
+     * @param command_name name of the command, e.g. MarcCsv
+     * @param source_name name of the source file
+     */
+    public static void start(String command_name, String source_name) {
+        command = command_name;
+        source = source_name;
+        stages.clear();
+        rows.clear();
+        start_nanos = System.nanoTime();
+    }
+
+    /**
+     * Metrics of a stage, created when used for the first time.
+     * Callers keep the stage to avoid a lookup for every measurement.
+     * @param name name of the stage
+     * @return metrics of the stage
+     */
+    public static Stage stage(String name) {
+        return(stages.computeIfAbsent(name, Stage::new));
+    }
+
+    /**
+     * Count rows written to an output file.
+     * @param file_name name of the output file
+     * @param number_of_rows number of rows
+     */
+    public static void countRows(String file_name, long number_of_rows) {
+        rows.computeIfAbsent(file_name, name -> new LongAdder()).add(number_of_rows);
+    }
+
+    /**
+     * Elapsed time since the start of the run.
+     * @return elapsed time in milliseconds
+     */
+    public static long elapsedMillis() {
+        return((System.nanoTime() - start_nanos) / 1_000_000);
+    }
+
+    /**
+     * Records of the run: the records read from the source.
+     * @return number of records
+     */
+    public static long records() {
+        Stage read = stages.get(STAGE_READ);
+        return(read == null ? 0 : read.records.sum());
+    }
+
+    /**
+     * Rejected records of the run: the lines logged as rejections.
+     * @return number of rejected records
+     */
+    public static long rejected() {
+        Stage reject = stages.get(STAGE_REJECT);
+        return(reject == null ? 0 : reject.records.sum());
+    }
+
+    /**
+     * Size of the records of the run.
+     * @return number of bytes read from the source
+     */
+    public static long bytes() {
+        Stage read = stages.get(STAGE_READ);
+        return(read == null ? 0 : read.bytes.sum());
+    }
+
+    /**
+     * Summary file of the run, next to the output files.
+     * @param file_name file name given with the metrics option; empty for the default summary file
+     * @param output_directory directory of the output files, or null for the working directory
+     * @return summary file; a relative file name is taken in the directory of the output files
+     */
+    public static File summaryFile(String file_name, File output_directory) {
+        File file = new File(file_name.isEmpty() ? SUMMARY_FILE : file_name);
+        return(file.isAbsolute() ? file : new File(output_directory, file.getPath()));
+    }
+
+    /**
+     * Write the summary of the run to a file: CSV when the file name ends with .csv, otherwise JSON.
+     * @param file_name name of the summary file
+     * @throws IOException Error while writing the file
+     */
+    public static void writeSummary(String file_name) throws IOException {
+        String summary = file_name.toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION) ? summaryCsv() : summaryJson();
+        try(Writer writer = new OutputStreamWriter(new FileOutputStream(file_name), StandardCharsets.UTF_8)) {
+            writer.write(summary);
+        }
+    }
+
+    /**
+     * Summary of the run as JSON.
+     * @return JSON object with run, stages and rows per output file
+     */
+    public static String summaryJson() {
+        long elapsed_millis = elapsedMillis();
+        StringBuilder json = new StringBuilder();
+
+        //run
+        json.append("{\n");
+        json.append("  \"command\": ").append(jsonString(command)).append(",\n");
+        json.append("  \"source\": ").append(jsonString(source)).append(",\n");
+        json.append("  \"elapsed_ms\": ").append(elapsed_millis).append(",\n");
+        json.append("  \"records\": ").append(records()).append(",\n");
+        json.append("  \"rejected\": ").append(rejected()).append(",\n");
+        json.append("  \"bytes\": ").append(bytes()).append(",\n");
+        json.append("  \"records_per_second\": ").append(format(perSecond(records(), elapsed_millis))).append(",\n");
+        json.append("  \"bytes_per_second\": ").append(format(perSecond(bytes(), elapsed_millis))).append(",\n");
+
+        //stages
+        json.append("  \"stages\": [");
+        String separator = "\n";
+        for(Stage stage : sortedStages().values()) {
+            json.append(separator).append("    {\"name\": ").append(jsonString(stage.name));
+            for(Map.Entry<String, String> value : stage.values().entrySet()) {
+                json.append(", \"").append(value.getKey()).append("\": ").append(value.getValue());
+            }
+            json.append('}');
+            separator = ",\n";
+        }
+        json.append("\n  ],\n");
+
+        //rows per output file
+        json.append("  \"rows\": {");
+        separator = "\n";
+        for(Map.Entry<String, LongAdder> file : new TreeMap<>(rows).entrySet()) {
+            json.append(separator).append("    ").append(jsonString(file.getKey())).append(": ").append(file.getValue().sum());
+            separator = ",\n";
+        }
+        json.append("\n  }\n");
+        json.append("}\n");
+
+        //return summary
+        return(json.toString());
+    }
+
+    /**
+     * Summary of the run as CSV, one value per line.
+     * @return CSV lines with group, name and value
+     */
+    public static String summaryCsv() {
+        long elapsed_millis = elapsedMillis();
+        StringBuilder csv = new StringBuilder("group,name,value\n");
+
+        //run
+        csvLine(csv, "run", "command", CsvConverter.asCsvString(command));
+        csvLine(csv, "run", "source", CsvConverter.asCsvString(source));
+        csvLine(csv, "run", "elapsed_ms", String.valueOf(elapsed_millis));
+        csvLine(csv, "run", "records", String.valueOf(records()));
+        csvLine(csv, "run", "rejected", String.valueOf(rejected()));
+        csvLine(csv, "run", "bytes", String.valueOf(bytes()));
+        csvLine(csv, "run", "records_per_second", format(perSecond(records(), elapsed_millis)));
+        csvLine(csv, "run", "bytes_per_second", format(perSecond(bytes(), elapsed_millis)));
+
+        //stages
+        for(Stage stage : sortedStages().values()) {
+            for(Map.Entry<String, String> value : stage.values().entrySet()) {
+                csvLine(csv, "stage." + stage.name, value.getKey(), value.getValue());
+            }
+        }
+
+        //rows per output file
+        for(Map.Entry<String, LongAdder> file : new TreeMap<>(rows).entrySet()) {
+            csvLine(csv, "rows", CsvConverter.asCsvString(file.getKey()), String.valueOf(file.getValue().sum()));
+        }
+
+        //return summary
+        return(csv.toString());
+    }
+
+    /**
+     * Make the metrics of the run readable over JMX, as MBean marccsv:type=RunMetrics.
+     * @throws JMException Error while registering the MBean
+     */
+    public static void registerMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(MBEAN_NAME);
+        if(!server.isRegistered(name)) {
+            server.registerMBean(new StandardMBean(new MBean(), RunMetricsMBean.class), name);
+        }
+    }
+
+    /**
+     * Stages in order of the pipeline; unknown stages follow by name.
+     * @return stages by order
+     */
+    private static Map<String, Stage> sortedStages() {
+        Map<String, Stage> sorted = new TreeMap<>((first, second) -> {
+            int order = Integer.compare(stageOrder(first), stageOrder(second));
+            return(order != 0 ? order : first.compareTo(second));
+        });
+        sorted.putAll(stages);
+        return(sorted);
+    }
+
+    /**
+     * Position of stage in the pipeline.
+     * @param name name of stage
+     * @return position
+     */
+    private static int stageOrder(String name) {
+        return switch (name) {
+            case STAGE_CHUNK -> 0;
+            case STAGE_READ -> 1;
+            case STAGE_PARSE -> 2;
+            case STAGE_RENDER -> 3;
+            case STAGE_WRITE -> 4;
+            case STAGE_REJECT -> 5;
+            default -> 6;
+        };
+    }
+
+    /**
+     * Number per second.
+     * @param number number within the elapsed time
+     * @param elapsed_millis elapsed time in milliseconds
+     * @return number per second, 0 when no time has elapsed
+     */
+    private static double perSecond(long number, long elapsed_millis) {
+        return(elapsed_millis == 0 ? 0 : 1000.0 * number / elapsed_millis);
+    }
+
+    /**
+     * Decimal number with one decimal, independent of the locale.
+     * @param number number
+     * @return formatted number
+     */
+    private static String format(double number) {
+        return(String.format(Locale.ROOT, "%.1f", number));
+    }
+
+    /**
+     * JSON string value.
+     * @param value value, or null
+     * @return quoted and escaped value, or null
+     */
+    private static String jsonString(String value) {
+        if(value == null) return("null");
+        StringBuilder json = new StringBuilder("\"");
+        for(int index = 0; index < value.length(); index++) {
+            char c = value.charAt(index);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if(c < 0x20) json.append(String.format("\\u%04x", (int) c));
+                    else json.append(c);
+                }
+            }
+        }
+        return(json.append('"').toString());
+    }
+
+    /**
+     * Append CSV line.
+     * @param csv CSV lines
+     * @param group group of the value
+     * @param name name of the value
+     * @param value value
+     */
+    private static void csvLine(StringBuilder csv, String group, String name, String value) {
+        csv.append(group).append(',').append(name).append(',').append(value).append('\n');
+    }
+
+    /**
+     * Metrics of one stage: operations, records and bytes, and latencies of the operations.
+     * An operation is one call of the stage, e.g. one record or one batch of records.
+     */
+    public static final class Stage {
+
+        //histogram buckets: every power of 2 nanoseconds is divided into 8 buckets, so a percentile is at most 12.5% too high
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int NUMBER_OF_BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        //name of stage
+        private final String name;
+
+        //counters
+        private final LongAdder operations = new LongAdder();
+        private final LongAdder records = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder total_nanos = new LongAdder();
+
+        //histogram of latencies, and the maximal latency
+        //every bucket is a counter of its own, which spreads over cells when workers update it at the same time
+        private final LongAdder[] buckets = new LongAdder[NUMBER_OF_BUCKETS];
+        private final AtomicLong max_nanos = new AtomicLong();
+
+        //Constructor
+        private Stage(String name) {
+            this.name = name;
+            for(int index = 0; index < NUMBER_OF_BUCKETS; index++) {
+                buckets[index] = new LongAdder();
+            }
+        }
+
+        /**
+         * Measure an operation of one record, ending now.
+         * @param start_nanos start of the operation, from System.nanoTime()
+         * @param number_of_bytes number of bytes of the record processed by the operation
+         * @return end of the operation, to be used as start of the next operation
+         */
+        public long record(long start_nanos, long number_of_bytes) {
+            long end_nanos = System.nanoTime();
+            record(end_nanos - start_nanos, 1, number_of_bytes);
+            return(end_nanos);
+        }
+
+        /**
+         * Measure an operation.
+         * @param nanos latency of the operation in nanoseconds
+         * @param number_of_records number of records processed by the operation
+         * @param number_of_bytes number of bytes processed by the operation; characters when the records are decoded text
+         */
+        public void record(long nanos, long number_of_records, long number_of_bytes) {
+            operations.increment();
+            if(number_of_records != 0) records.add(number_of_records);
+            if(number_of_bytes != 0) bytes.add(number_of_bytes);
+            total_nanos.add(nanos);
+            buckets[bucket(nanos)].increment();
+
+            //new maximum: rare after the first operations
+            if(nanos > max_nanos.get()) {
+                max_nanos.accumulateAndGet(nanos, Math::max);
+            }
+        }
+
+        /**
+         * Values of the stage, for the summary.
+         * @return values by name, latencies in microseconds
+         */
+        private Map<String, String> values() {
+            long number_of_operations = operations.sum();
+            Map<String, String> values = new LinkedHashMap<>();
+            values.put("operations", String.valueOf(number_of_operations));
+            values.put("records", String.valueOf(records.sum()));
+            values.put("bytes", String.valueOf(bytes.sum()));
+            values.put("total_ms", format(total_nanos.sum() / 1e6));
+            values.put("mean_us", format(number_of_operations == 0 ? 0 : total_nanos.sum() / 1e3 / number_of_operations));
+            values.put("p50_us", format(percentile(0.50) / 1e3));
+            values.put("p90_us", format(percentile(0.90) / 1e3));
+            values.put("p99_us", format(percentile(0.99) / 1e3));
+            values.put("max_us", format(max_nanos.get() / 1e3));
+            return(values);
+        }
+
+        /**
+         * Latency below which a fraction of the operations falls, by the upper bound of its histogram bucket.
+         * @param fraction fraction of the operations, between 0 and 1
+         * @return latency in nanoseconds, at most the maximal latency
+         */
+        private long percentile(double fraction) {
+            //counts of the buckets
+            long[] counts = new long[NUMBER_OF_BUCKETS];
+            long number_of_operations = 0;
+            for(int index = 0; index < NUMBER_OF_BUCKETS; index++) {
+                counts[index] = buckets[index].sum();
+                number_of_operations += counts[index];
+            }
+            if(number_of_operations == 0) return(0);
+            long max = max_nanos.get();
+
+            //first bucket reaching the fraction
+            long rank = (long) Math.ceil(fraction * number_of_operations);
+            long count = 0;
+            for(int index = 0; index < NUMBER_OF_BUCKETS; index++) {
+                count += counts[index];
+                if(count >= rank) {
+                    //end of the last bucket overflows
+                    long end = bucketEnd(index);
+                    return(end < 0 ? max : Math.min(end, max));
+                }
+            }
+            return(max);
+        }
+
+        /**
+         * Histogram bucket of a latency: the position of the highest bit and the bits below it.
+         * Latencies below 8 nanoseconds have a bucket of their own.
+         * @param nanos latency in nanoseconds
+         * @return bucket
+         */
+        private static int bucket(long nanos) {
+            if(nanos < SUB_BUCKETS) return((int) Math.max(nanos, 0));
+            int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+            return((shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1)));
+        }
+
+        /**
+         * End of the latencies of a histogram bucket.
+         * @param bucket bucket
+         * @return first latency after the bucket, in nanoseconds
+         */
+        private static long bucketEnd(int bucket) {
+            if(bucket < SUB_BUCKETS) return(bucket + 1);
+            int shift = bucket / SUB_BUCKETS - 1;
+            long start = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+            return(start + (1L << shift));
+        }
+    }
+
+    /**
+     * Metrics of the run as MBean.
+     */
+    private static class MBean implements RunMetricsMBean {
+        @Override
+        public String getCommand() {
+            return(command);
+        }
+
+        @Override
+        public String getSource() {
+            return(source);
+        }
+
+        @Override
+        public long getElapsedMillis() {
+            return(elapsedMillis());
+        }
+
+        @Override
+        public long getRecords() {
+            return(records());
+        }
+
+        @Override
+        public long getRejected() {
+            return(rejected());
+        }
+
+        @Override
+        public long getBytes() {
+            return(bytes());
+        }
+
+        @Override
+        public double getRecordsPerSecond() {
+            return(perSecond(records(), elapsedMillis()));
+        }
+
+        @Override
+        public double getBytesPerSecond() {
+            return(perSecond(bytes(), elapsedMillis()));
+        }
+
+        @Override
+        public String getSummary() {
+            return(summaryJson());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package Utils;
+
+/**
+ * Metrics of the running conversion, readable over JMX while the run is in progress.
+ */
+public interface RunMetricsMBean {
+
+    String getCommand();
+
+    String getSource();
+
+    long getElapsedMillis();
+
+    long getRecords();
+
+    long getRejected();
+
+    long getBytes();
+
+    double getRecordsPerSecond();
+
+    double getBytesPerSecond();
+
+    /**
+     * Summary of the run so far, like the summary file written at the end of the run.
+     * @return summary as JSON
+     */
+    String getSummary();
+}
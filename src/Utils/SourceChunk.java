@@ -0,0 +1,44 @@
+package Utils;
+
+public class SourceChunk {
+    private final String key;
+    private final long startOffset;
+    private final long endOffset;
+    private final int numberOfLines;
+
+    //Getters
+    public String getKey() {
+        return key;
+    }
+
+    public long getStartOffset() {
+        return startOffset;
+    }
+
+    public long getEndOffset() {
+        return endOffset;
+    }
+
+    public int getNumberOfLines() {
+        return numberOfLines;
+    }
+
+    //Constructor
+    public SourceChunk(String key, long startOffset, long endOffset, int numberOfLines) {
+        this.key = key;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.numberOfLines = numberOfLines;
+    }
+
+    //Create string
+    @Override
+    public String toString() {
+        return "SourceChunk{" +
+                "key='" + key + '\'' +
+                ", startOffset=" + startOffset +
+                ", endOffset=" + endOffset +
+                ", numberOfLines=" + numberOfLines +
+                '}';
+    }
+}
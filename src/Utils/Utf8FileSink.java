@@ -0,0 +1,169 @@
+package Utils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Output file to which text is appended as UTF-8 bytes.
+ * Text is encoded straight into reusable byte buffers; full buffers are written to the file channel in one gathering write.
+ * The buffers are heap buffers: the UTF-8 encoder only has its fast loop for buffers backed by an array.
+ * Characters that can't be encoded (unpaired surrogates) are replaced by '?', like the UTF-8 encoder of a FileWriter does.
+ */
+public class Utf8FileSink implements Closeable {
+
+    //fixed values
+    private static final int CHAR_CHUNK_SIZE = 8*1024;
+    private static final int BYTE_BUFFER_SIZE = 64*1024;
+    private static final int NUMBER_OF_BUFFERS = 4;
+    private static final byte[] REPLACEMENT_BYTES = {'?'};   //unpaired surrogate, as the UTF-8 encoder of a FileWriter replaces it
+
+    //output file
+    private final FileChannel channel;
+
+    //byte buffers, allocated when needed; filled one after the other
+    private final ByteBuffer[] buffers;
+    private int current_buffer;
+
+    //characters to be encoded, reused for every append; a high surrogate at the end stays for the next append
+    private final CharBuffer chars;
+
+    //UTF-8 encoder, keeps no state between appends
+    private final CharsetEncoder encoder;
+
+    //Constructor
+    public Utf8FileSink(File file) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.buffers = new ByteBuffer[NUMBER_OF_BUFFERS];
+        this.current_buffer = 0;
+        this.chars = CharBuffer.allocate(CHAR_CHUNK_SIZE);
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .replaceWith(REPLACEMENT_BYTES);
+    }
+
+    /**
+     * Append text to the file.
+     * @param text text to be appended
+     * @throws IOException Error while writing to file
+     */
+    public void append(CharSequence text) throws IOException {
+        int length = text.length();
+        int start = 0;
+
+        while (start < length) {
+            //next chunk of characters, after a high surrogate kept from the previous chunk or append
+            int end = Math.min(start + chars.remaining(), length);
+            getChars(text, start, end);
+            start = end;
+
+            //encode chunk; a high surrogate at the end is kept, the low surrogate can follow
+            chars.flip();
+            encode(false);
+            chars.compact();
+        }
+    }
+
+    /**
+     * Write all buffered bytes to the file.
+     * @throws IOException Error while writing to file
+     */
+    public void flush() throws IOException {
+        //nothing buffered
+        if(buffers[0] == null) return;
+
+        //prepare filled buffers for writing
+        int number_of_buffers = current_buffer + 1;
+        for(int index = 0; index < number_of_buffers; index++) {
+            buffers[index].flip();
+        }
+
+        //gathering write, until the last buffer is written
+        while (buffers[current_buffer].hasRemaining()) {
+            channel.write(buffers, 0, number_of_buffers);
+        }
+
+        //reuse buffers
+        for(int index = 0; index < number_of_buffers; index++) {
+            buffers[index].clear();
+        }
+        current_buffer = 0;
+    }
+
+    /**
+     * Flush buffered bytes and close the file.
+     * @throws IOException Error while writing or closing file
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            //high surrogate without low surrogate is replaced
+            chars.flip();
+            encode(true);
+            chars.clear();
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Copy characters of text into the character chunk, after the characters already in it.
+     * @param text text to be copied
+     * @param start first character
+     * @param end end of characters (exclusive)
+     */
+    private void getChars(CharSequence text, int start, int end) {
+        int offset = chars.position();
+        if(text instanceof String string) {
+            string.getChars(start, end, chars.array(), offset);
+        } else if(text instanceof StringBuilder builder) {
+            builder.getChars(start, end, chars.array(), offset);
+        } else {
+            for(int index = start; index < end; index++) {
+                chars.array()[offset + index - start] = text.charAt(index);
+            }
+        }
+        chars.position(offset + end - start);
+    }
+
+    /**
+     * Encode the characters of the character chunk into the byte buffers; when all buffers are full, they are written to the file.
+     * The encoder doesn't split a character over two buffers: a buffer can end with a few unused bytes.
+     * @param end_of_input true: no characters follow, a high surrogate at the end is replaced
+     * @throws IOException Error while writing to file
+     */
+    private void encode(boolean end_of_input) throws IOException {
+        while (true) {
+            //current buffer, allocated when needed
+            ByteBuffer buffer = buffers[current_buffer];
+            if(buffer == null) {
+                buffer = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+                buffers[current_buffer] = buffer;
+            }
+
+            //encode characters; all characters encoded, or kept for the next chunk
+            CoderResult result = encoder.encode(chars, buffer, end_of_input);
+            if(result.isUnderflow()) {
+                if(end_of_input) encoder.flush(buffer);
+                return;
+            }
+
+            //current buffer full: continue with next buffer, or write all buffers
+            if(current_buffer + 1 < NUMBER_OF_BUFFERS) {
+                current_buffer++;
+            } else {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package XML;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Arrays;
+
+/**
+ * Very simple XML scanner working on UTF-8 bytes.
+ * Inspired by https://www.youtube.com/watch?v=kPFYfTvMRs8 [Alligood, J. (2020) XML Parser in C (Start to Finish)]
+ * Conditions:
+ * - XML doesn't contain comments.
+ * - XML doesn't contain prolog; '<?xml version="1.0" encoding="UTF-8"?>' won't be processed -> resulting in an error.
+ * - attributes don't have spaces surrounding '='; 'key="value"' will be processed, 'key = "value"' won't be processed -> resulting in an error.
+ * - attribute values are enclosed in double or single quotes; 'key="value"' and "key='value'" will be processed.
+ * - entities and character references are not decoded; '&amp;' and '&#233;' are reported as they are written.
+ * Markup characters, tags and attribute keys are ASCII: the input is tokenized on the bytes,
+ * only tokens are turned into strings, without decoding the whole input.
+ * Every scanner instance keeps its own lexer state: one scanner object can be used by one thread at a time,
+ * several scanner objects can be used concurrently.
+ * The scanner reports start of element, attribute, inner text and end of element as events to an XmlHandler.
+ */
+public class Utf8XmlScanner {
+
+    //initial buffer size for lexical buffer; the buffer grows when a token doesn't fit
+    private final static int LEX_BUFFER_SIZE = 1024;
+    //initial number of open elements and attributes of an element; grows when needed
+    private final static int INITIAL_DEPTH = 8;
+
+    private byte[] lexical_buffer = new byte[LEX_BUFFER_SIZE]; //buffer for lexical analysis, reused for every token
+    private int lexical_index;              //index in buffer
+
+    private byte[] raw_bytes;               //UTF-8 bytes to be scanned
+    private int raw_index;                  //index in bytes to be scanned
+
+    private XmlHandler handler;             //receiver of the parse events
+
+    private String[] open_tags = new String[INITIAL_DEPTH];  //tags of the open elements, from root to current element
+    private int depth;                      //number of open elements
+    private String root_tag;                //tag of the root element; the root element can be continued after it's closed
+
+    private String start_tag;               //tag of the element being started, or null when not yet read
+    private String attribute_key;           //key of the attribute being read, or null when not yet read
+    private String[] attribute_keys = new String[INITIAL_DEPTH];   //attributes of the element being started
+    private String[] attribute_values = new String[INITIAL_DEPTH];
+    private int number_of_attributes;
+
+    //one scanner per thread, for callers that don't manage their own scanner instances
+    private static final ThreadLocal<Utf8XmlScanner> THREAD_SCANNER = ThreadLocal.withInitial(Utf8XmlScanner::new);
+
+    //Constructor
+    public Utf8XmlScanner() {}
+
+    /**
+     * Scanner owned by the current thread.
+     * @return scanner of the current thread
+     */
+    public static Utf8XmlScanner forCurrentThread() {
+        return(THREAD_SCANNER.get());
+    }
+
+    /**
+     * Scan UTF-8 bytes as XML, reporting the XML structure as events to the handler.
+     * @param bytes_to_be_scanned UTF-8 bytes to be scanned, containing XML
+     * @param xml_handler receiver of the parse events
+     * @return false in case of empty input, otherwise true
+     * @throws ParseException Error while parsing XML, or error of the handler
+     */
+    public boolean parse(byte[] bytes_to_be_scanned, XmlHandler xml_handler) throws ParseException {
+
+        //when input is empty return false
+        if(isBlank(bytes_to_be_scanned)) {
+            return false;
+        }
+
+        //no open elements
+        handler = xml_handler;
+        depth = 0;
+        root_tag = null;
+
+        //set start position for scanning
+        raw_bytes = bytes_to_be_scanned;     //store raw bytes
+        raw_index = 0;                       //start scanning at first byte
+
+        // reset lexer
+        resetLexer();
+
+        //process byte by byte
+        while (raw_index < raw_bytes.length) {
+
+            //start of new xml node
+            if(rawByteAt(raw_index) == '<') {
+
+                //check if buffer has text: report inner text of current element
+                if(lexical_index > 0) {
+                    processInnerText();
+                }
+
+                //check if next byte is forward slash: close current element
+                if(rawByteAt(raw_index + 1) == '/') {
+                    processEndOfNode();
+                    raw_index++;
+                    continue;
+                }
+
+                //read tag and optional attributes of the new element
+                raw_index++;
+                processStartOfNode();
+                raw_index++;
+
+            } else {
+
+                //add bytes to buffer
+                addToLexer(rawByteAt(raw_index++));
+
+            }
+        }
+
+        //input is scanned
+        return true;
+    }
+
+    /**
+     * Reset the lexical buffer and lexical index.
+     */
+    private void resetLexer() {
+        lexical_index = 0;
+    }
+
+    /**
+     * Add byte to the lexical buffer; grow the buffer when it is full.
+     * @param b byte to be added
+     */
+    private void addToLexer(byte b) {
+
+        //buffer full: double the size, keeping the filled range
+        if(lexical_index == lexical_buffer.length) {
+            lexical_buffer = Arrays.copyOf(lexical_buffer, 2 * lexical_buffer.length);
+        }
+
+        //add byte
+        lexical_buffer[lexical_index++] = b;
+    }
+
+    /**
+     * Token in the lexical buffer, decoded from UTF-8 and trimmed like String.trim() does.
+     * Whitespace characters are ASCII, so trimming is done on the bytes.
+     * Tokens of the MARCXML vocabulary are taken from the XmlTokenTable.
+     * @return trimmed token
+     */
+    private String lexerToken() {
+        //skip leading and trailing whitespace
+        int start = 0;
+        int end = lexical_index;
+        while (start < end && (lexical_buffer[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (lexical_buffer[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+
+        //whitespace only, e.g. between two tags
+        if(start == end) {
+            return("");
+        }
+
+        //token of the MARCXML vocabulary: shared instance
+        String token = XmlTokenTable.lookup(lexical_buffer, start, end - start);
+        if(token != null) {
+            return(token);
+        }
+
+        //ASCII only: every byte is one character
+        boolean ascii = true;
+        for(int index = start; index < end && ascii; index++) {
+            ascii = lexical_buffer[index] >= 0;
+        }
+
+        //return token
+        return(new String(lexical_buffer, start, end - start, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compare token in the lexical buffer with a string; the token is only created when it contains non-ASCII characters.
+     * @param string string to be compared
+     * @return true when the trimmed token is equal to the string
+     */
+    private boolean lexerTokenEquals(String string) {
+        //skip leading and trailing whitespace
+        int start = 0;
+        int end = lexical_index;
+        while (start < end && (lexical_buffer[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (lexical_buffer[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+
+        //compare ASCII bytes with characters
+        for(int index = start; index < end; index++) {
+            //non-ASCII character: compare decoded token
+            if(lexical_buffer[index] < 0) {
+                return(lexerToken().equals(string));
+            }
+            if(index - start >= string.length() || lexical_buffer[index] != string.charAt(index - start)) {
+                return(false);
+            }
+        }
+        return(end - start == string.length());
+    }
+
+    /**
+     * Check if input contains only whitespace, like String.trim() determines whitespace.
+     * @param bytes input to be checked
+     * @return true when input is empty or contains only whitespace
+     */
+    private static boolean isBlank(byte[] bytes) {
+        for(byte b : bytes) {
+            if((b & 0xFF) > ' ') {
+                return(false);
+            }
+        }
+        return(true);
+    }
+
+    /**
+     * Byte in raw bytes at index position.
+     * @param index position in bytes
+     * @return byte at index position
+     * @throws ParseException There is no byte at the requested index
+     */
+    private byte rawByteAt(int index) throws ParseException {
+
+        //end of input: position is reported in characters, not in bytes
+        if(index >= raw_bytes.length) {
+            throw new ParseException("There is no character at position (" + charPosition(index) + ")", -1);
+        }
+
+        return(raw_bytes[index]);
+    }
+
+    /**
+     * Character position of a byte position in the raw bytes.
+     * @param index byte position; positions past the end count as one character per byte
+     * @return character position
+     */
+    private int charPosition(int index) {
+        int position = 0;
+        for(int byte_index = 0; byte_index < Math.min(index, raw_bytes.length); byte_index++) {
+            int b = raw_bytes[byte_index] & 0xFF;
+            //continuation bytes don't start a character, a 4-byte sequence is a surrogate pair
+            if((b & 0xC0) != 0x80) position++;
+            if(b >= 0xF0) position++;
+        }
+        return(position + Math.max(0, index - raw_bytes.length));
+    }
+
+    /**
+     * Process the inner text of an XML node: report the inner text of the current element.
+     * @throws ParseException lexical buffer contains text, but XML node doesn't exist
+     */
+    private void processInnerText() throws ParseException {
+
+        //if there is no open element, text is before a xml start token
+        if(depth == 0) {
+            throw new ParseException("Text outside of xml", -1);
+        }
+
+        //report inner text
+        handler.text(lexerToken());
+
+        // reset lexer
+        resetLexer();
+    }
+
+    /**
+     * Process the end of the node, after the byte '/' has been detected.
+     * @throws ParseException XML is malformed, or start tag and end tag are not the same
+     */
+    private void processEndOfNode() throws ParseException {
+
+        //check if an element is open, otherwise xml is malformed
+        if(depth == 0) {
+            throw new ParseException("Already at the root", -1);
+        }
+
+        //skip byte '/' in raw bytes
+        raw_index += 2;
+
+        //while not end of node tag, copy bytes in buffer
+        while(rawByteAt(raw_index) != '>') {
+            addToLexer(rawByteAt(raw_index++));
+        }
+
+        //check if start-tag and end-tag are the same; end tag is compared in the lexical buffer
+        String current_tag = open_tags[depth - 1];
+        if(!lexerTokenEquals(current_tag)) {
+            throw new ParseException("Mismatched tags (" + current_tag + " != " + lexerToken() + ")", -1);
+        }
+
+        //finished processing node
+        depth--;
+        handler.endElement(current_tag);
+
+        // reset lexer
+        resetLexer();
+    }
+
+    /**
+     * Process the start of an XML node.
+     * Tag and optional attributes are read, and reported when the start tag is complete.
+     * @throws ParseException Attribute value without a key
+     */
+    private void processStartOfNode() throws ParseException {
+
+        //tag of new element; a root element that is started again keeps its tag
+        start_tag = (depth == 0) ? root_tag : null;
+
+        //no attributes yet
+        attribute_key = null;
+        number_of_attributes = 0;
+
+        //element without end tag
+        boolean self_closing = false;
+
+        //while not end of node tag
+        while(rawByteAt(raw_index) != '>') {
+
+            //process end of node without inner text: <node att="val" /> or <node/>
+            if(rawByteAt(raw_index) == '/' && rawByteAt(raw_index + 1) == '>') {
+                if(start_tag == null) {
+                    start_tag = lexerToken();
+                }
+                self_closing = true;
+                raw_index++;
+                resetLexer();
+                continue;
+            }
+
+            //copy bytes in buffer
+            addToLexer(rawByteAt(raw_index++));
+
+            //encountered a space AND start-tag not yet processed -> set tag
+            if(rawByteAt(raw_index) == ' ' && start_tag == null) {
+                start_tag = lexerToken();
+                resetLexer();
+                raw_index++;
+                continue;
+            }
+
+            //ignore spaces in tags
+            if(lexical_buffer[lexical_index - 1] == ' ') {
+                lexical_index--;
+                continue;
+            }
+
+            //attribute key is read
+            if(rawByteAt(raw_index) == '=') {
+                attribute_key = lexerToken();
+                resetLexer();
+                continue;
+            }
+
+            //process attribute value, in double or single quotes
+            if(rawByteAt(raw_index) == '"' || rawByteAt(raw_index) == '\'') {
+                processValue(rawByteAt(raw_index));
+                raw_index++;
+            }
+        }
+
+        //In case of no attributes: tag name is not yet set
+        if(start_tag == null) {
+            start_tag = lexerToken();
+        }
+
+        // reset lexer
+        resetLexer();
+
+        //report element and attributes
+        reportStartOfNode(self_closing);
+    }
+
+    /**
+     * Report start of element and its attributes; an element without end tag is ended immediately.
+     * @param self_closing element without end tag
+     * @throws ParseException Root element without end tag
+     */
+    private void reportStartOfNode(boolean self_closing) throws ParseException {
+
+        //the first element is the root element
+        if(depth == 0 && root_tag == null) {
+            root_tag = start_tag;
+        }
+
+        //root element without end tag: there is no parent to continue with
+        if(self_closing && depth == 0) {
+            throw new ParseException("Current node is NULL", -1);
+        }
+
+        //open element
+        if(depth == open_tags.length) {
+            open_tags = Arrays.copyOf(open_tags, 2 * open_tags.length);
+        }
+        open_tags[depth++] = start_tag;
+
+        //report element and attributes
+        handler.startElement(start_tag);
+        for(int index = 0; index < number_of_attributes; index++) {
+            handler.attribute(attribute_keys[index], attribute_values[index]);
+        }
+
+        //element without end tag: close element
+        if(self_closing) {
+            depth--;
+            handler.endElement(start_tag);
+        }
+    }
+
+    /**
+     * Process value of the current attribute, and add the attribute to the element being started.
+     * @param quote quote enclosing the value, '"' or '\''
+     * @throws ParseException Attribute without key, but with value
+     */
+    private void processValue(byte quote) throws ParseException {
+
+        //check if there is an attribute value without a key
+        if(attribute_key == null) {
+            throw new ParseException("Attribute value has no key", -1);
+        }
+
+        // reset lexer
+        resetLexer();
+
+        //next byte in raw bytes
+        raw_index++;
+
+        //read until closing quote
+        while(rawByteAt(raw_index) != quote) {
+            addToLexer(rawByteAt(raw_index++));
+        }
+
+        //add attribute to element
+        if(number_of_attributes == attribute_keys.length) {
+            attribute_keys = Arrays.copyOf(attribute_keys, 2 * attribute_keys.length);
+            attribute_values = Arrays.copyOf(attribute_values, 2 * attribute_values.length);
+        }
+        attribute_keys[number_of_attributes] = attribute_key;
+        attribute_values[number_of_attributes] = lexerToken();
+        number_of_attributes++;
+
+        //next attribute
+        attribute_key = null;
+
+        // reset lexer
+        resetLexer();
+    }
+}
@@ -0,0 +1,39 @@
+package XML;
+
+import java.text.ParseException;
+
+/**
+ * Receiver of the events of the XML scanner, in document order.
+ * The attributes of an element follow directly on the start of the element.
+ */
+public interface XmlHandler {
+
+    /**
+     * Start of an element.
+     * @param tag tag of the element
+     * @throws ParseException Error while processing the event
+     */
+    void startElement(String tag) throws ParseException;
+
+    /**
+     * Attribute of the element just started.
+     * @param key key of the attribute
+     * @param value value of the attribute
+     * @throws ParseException Error while processing the event
+     */
+    void attribute(String key, String value) throws ParseException;
+
+    /**
+     * Inner text of the current element, trimmed; one event for every text between two tags.
+     * @param text inner text
+     * @throws ParseException Error while processing the event
+     */
+    void text(String text) throws ParseException;
+
+    /**
+     * End of the current element.
+     * @param tag tag of the element
+     * @throws ParseException Error while processing the event
+     */
+    void endElement(String tag) throws ParseException;
+}
@@ -0,0 +1,113 @@
+package XML;
+
+/**
+ * Table with one shared string instance for each token of the small MARCXML vocabulary:
+ * element names, attribute keys, tags (000 to 999) and single character values like indicators and subfield codes.
+ * The scanner takes these tokens from the table instead of creating a new string for every occurrence,
+ * so all records share the same instances and a compare of two tokens succeeds on identity.
+ * The table is filled once and never changes: it can be used by several threads without synchronization.
+ */
+public final class XmlTokenTable {
+
+    //element names and attribute keys of MARCXML; string literals are the same instances as the XML_TOKEN constants
+    private static final String[] XML_TOKENS = {
+            "marc:collection", "marc:record", "marc:leader", "marc:controlfield", "marc:datafield", "marc:subfield",
+            "tag", "ind1", "ind2", "code"
+    };
+
+    //number of slots, power of 2, at least twice the number of tokens
+    private static final int TABLE_SIZE = 4096;
+
+    //shared instances by hash slot, open addressing
+    private static final String[] TOKENS = new String[TABLE_SIZE];
+
+    //length of the longest token; longer tokens are never looked up
+    private static final int MAX_TOKEN_LENGTH;
+
+    static {
+        //element names and attribute keys
+        int max_length = 0;
+        for(String token : XML_TOKENS) {
+            add(token);
+            max_length = Math.max(max_length, token.length());
+        }
+        MAX_TOKEN_LENGTH = max_length;
+
+        //tags of fields
+        for(int tag = 0; tag < 1000; tag++) {
+            add(String.format("%03d", tag).intern());
+        }
+
+        //single characters: indicators and subfield codes; whitespace is trimmed from tokens
+        for(char c = '!'; c <= '~'; c++) {
+            add(String.valueOf(c).intern());
+        }
+    }
+
+    //No instances
+    private XmlTokenTable() {}
+
+    /**
+     * Shared instance of a token in a byte buffer.
+     * @param bytes buffer containing the token, as UTF-8 bytes
+     * @param start first byte of the token
+     * @param length number of bytes of the token
+     * @return shared instance, or null when the token isn't in the table
+     */
+    public static String lookup(byte[] bytes, int start, int length) {
+        //token can't be in the table
+        if(length > MAX_TOKEN_LENGTH) {
+            return(null);
+        }
+
+        //hash like String.hashCode(); a non-ASCII byte is never in the table
+        int hash = 0;
+        for(int index = start; index < start + length; index++) {
+            if(bytes[index] < 0) return(null);
+            hash = 31 * hash + bytes[index];
+        }
+
+        //probe slots until the token or an empty slot is found
+        for(int slot = hash & (TABLE_SIZE - 1); TOKENS[slot] != null; slot = (slot + 1) & (TABLE_SIZE - 1)) {
+            String token = TOKENS[slot];
+            if(token.hashCode() == hash && equals(token, bytes, start, length)) {
+                return(token);
+            }
+        }
+        return(null);
+    }
+
+    /**
+     * Add token to the table.
+     * @param token token to be added
+     */
+    private static void add(String token) {
+        int slot = token.hashCode() & (TABLE_SIZE - 1);
+        while (TOKENS[slot] != null) {
+            //token is already in the table
+            if(TOKENS[slot].equals(token)) return;
+            slot = (slot + 1) & (TABLE_SIZE - 1);
+        }
+        TOKENS[slot] = token;
+    }
+
+    /**
+     * Compare token with ASCII bytes.
+     * @param token token in the table
+     * @param bytes buffer containing the bytes
+     * @param start first byte
+     * @param length number of bytes
+     * @return true when every byte is equal to the character at the same position
+     */
+    private static boolean equals(String token, byte[] bytes, int start, int length) {
+        if(token.length() != length) {
+            return(false);
+        }
+        for(int index = 0; index < length; index++) {
+            if(token.charAt(index) != bytes[start + index]) {
+                return(false);
+            }
+        }
+        return(true);
+    }
+}
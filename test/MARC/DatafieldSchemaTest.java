@@ -0,0 +1,196 @@
+package MARC;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatafieldSchemaTest {
+
+    //columns of the per-tag header and output methods the built-in schemas replaced:
+    //tag, header columns, subfield codes rendered with all values
+    //657 $3 and 786 $v were in the header but not in the rows; they are rendered as non-repeatable columns
+    private static final String[][] OLD_COLUMNS = {
+            {"028", ",a,b,q,6,8", "q8"},
+            {"031", ",a,b,c,d,e,g,m,n,o,p,q,r,s,t,u,y,z,2,6,8", "dqstuyz8"},
+            {"035", ",a,z,6,8", "z8"},
+            {"040", ",a,b,c,d,e,6,8", "de8"},
+            {"041", ",a,b,d,e,f,g,h,i,j,k,m,n,p,q,r,t,2,6,8", "abdefghijkmnpqrt8"},
+            {"100", ",a,b,c,d,e,f,g,j,k,l,n,p,q,t,u,0,1,2,4,6,8", "cegjknp0148"},
+            {"130", ",a,d,f,g,h,k,l,m,n,o,p,r,s,t,0,1,2,6,8", "dgkmnps018"},
+            {"240", ",a,d,f,g,h,k,l,m,n,o,p,r,s,0,1,2,6,8", "dgkmnps018"},
+            {"245", ",a,b,c,f,g,h,k,n,p,s,6,8", "knp8"},
+            {"246", ",a,b,f,g,h,i,n,p,5,6,8", "gnp8"},
+            {"260", ",a,b,c,e,f,g,3,6,8", "abcefg8"},
+            {"300", ",a,b,c,e,f,g,3,6,8", "acfg8"},
+            {"340", ",a,b,c,d,e,f,g,h,i,j,k,l,m,n,o,p,0,1,2,3,6,8", "abcdefghijklmnop018"},
+            {"383", ",a,b,c,d,e,2,3,6,8", "abc8"},
+            {"500", ",a,3,5,6,8", "8"},
+            {"505", ",a,g,r,t,u,6,8", "grtu8"},
+            {"506", ",a,b,c,d,e,f,g,q,u,2,3,5,6,8", "bcdefgu8"},
+            {"510", ",a,b,c,u,x,3,6,8", "u8"},
+            {"518", ",a,d,o,p,0,1,2,3,6,8", "dop0128"},
+            {"520", ",a,b,c,u,2,3,6,8", "u8"},
+            {"525", ",a,6,8", "8"},
+            {"541", ",a,b,c,d,e,f,h,n,o,3,5,6,8", "no8"},
+            {"546", ",a,b,3,6,8", "b8"},
+            {"561", ",a,u,3,5,6,8", "u8"},
+            {"563", ",a,u,3,5,6,8", "u8"},
+            {"588", ",a,5,6,8", "8"},
+            {"590", ",a,b,c,3,6,8", "8"},
+            {"591", ",a,b,c,6,8", "8"},
+            {"592", ",a,b,c,6,8", "8"},
+            {"593", ",a,6,8", "8"},
+            {"594", ",a,b,c,6,8", "8"},
+            {"595", ",a,b,c,6,8", "8"},
+            {"596", ",a,b,c,6,8", "8"},
+            {"597", ",a,b,c,6,8", "8"},
+            {"598", ",a,b,c,6,8", "8"},
+            {"599", ",a,b,c,6,8", "8"},
+            {"650", ",a,b,c,d,e,g,v,x,y,z,0,1,2,3,4,6,8", "egvxyz0148"},
+            {"651", ",a,e,g,v,x,y,z,0,1,2,3,4,6,8", "egvxyz0148"},
+            {"657", ",a,v,x,y,z,0,1,2,3,6,8", "vxyz018"},
+            {"690", ",a,n,0,6,8", "08"},
+            {"691", ",a,n,0,6,8", "08"},
+            {"692", ",a,n,0,6,8", "08"},
+            {"693", ",a,n,0,6,8", "08"},
+            {"694", ",a,n,0,6,8", "08"},
+            {"695", ",a,n,0,6,8", "08"},
+            {"696", ",a,n,0,6,8", "08"},
+            {"697", ",a,n,0,6,8", "08"},
+            {"698", ",a,n,0,6,8", "08"},
+            {"699", ",a,n,0,6,8", "08"},
+            {"700", ",a,b,c,d,e,f,g,h,i,j,k,l,m,n,o,p,q,r,s,t,u,x,0,1,2,3,4,5,6,8", "cegijkmnps0148"},
+            {"710", ",a,b,c,d,e,f,g,h,i,k,l,m,n,o,p,r,s,t,u,x,0,1,2,3,4,5,6,8", "bcdegikmnps0148"},
+            {"730", ",a,d,f,g,h,i,k,l,m,n,o,p,r,s,t,x,0,1,2,3,4,5,6,8", "dgikmnps0148"},
+            {"760", ",a,b,c,d,g,h,i,m,n,o,s,t,w,x,y,4,6,7,8", "ginow48"},
+            {"762", ",a,b,c,d,g,h,i,m,n,o,s,t,w,x,y,4,6,7,8", "ginow48"},
+            {"765", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"767", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"770", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"772", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"773", ",a,b,d,g,h,i,k,m,n,o,p,q,r,s,t,u,w,x,y,z,3,4,6,7,8", "giknrwz48"},
+            {"774", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "cgiknorwz48"},
+            {"775", ",a,b,c,d,e,f,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"776", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"777", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"780", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"785", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"787", ",a,b,c,d,g,h,i,k,m,n,o,r,s,t,u,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"786", ",a,b,c,d,g,h,i,j,k,m,n,o,p,r,s,t,u,v,w,x,y,z,4,6,7,8", "giknorwz48"},
+            {"852", ",a,b,c,d,e,f,g,h,i,j,k,l,m,n,p,q,s,t,u,x,z,2,3,6,8", "bcdefgikmsuxz8"},
+            {"856", ",a,c,d,f,m,o,p,q,s,u,v,w,x,y,z,2,3,6,7,8", "acdfmsuvwxyz8"},
+            {"930", ",a,d,f,g,h,i,k,l,m,n,o,p,r,s,t,x,0,1,2,3,4,5,6,8", "dgikmnps0148"},
+            {"973", ",a,b,d,g,h,i,k,m,n,o,p,q,r,s,t,u,w,x,y,z,3,4,6,7,8", "giknrwz48"},
+            {"980", ",a,b,c,d,e,f,g,6,8", "8"}
+    };
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void restoreBuiltInSchemas() {
+        DatafieldSchema.useBuiltInSchemas();
+    }
+
+    @Test
+    void builtInSchemasReproduceOldColumns() {
+        for(String[] old_columns : OLD_COLUMNS) {
+            String tag = old_columns[0];
+            DatafieldSchema schema = DatafieldSchema.forTag(tag);
+            assertNotNull(schema, "no schema for " + tag);
+
+            //same header
+            assertEquals(old_columns[1], schema.header(), "header of " + tag);
+
+            //same columns, repeatable where all values were rendered
+            String[] codes = old_columns[1].substring(1).split(",");
+            assertEquals(codes.length, schema.numberOfColumns(), "columns of " + tag);
+            for(int column = 0; column < codes.length; column++) {
+                assertEquals(codes[column], schema.getCode(column), "column " + column + " of " + tag);
+                assertEquals(old_columns[2].contains(codes[column]), schema.isRepeatable(column), "repeatable " + codes[column] + " of " + tag);
+            }
+        }
+    }
+
+    @Test
+    void allColumnsReproduceOldDefaultColumns() {
+        DatafieldSchema schema = DatafieldSchema.ALL_COLUMNS;
+        assertEquals(",a,b,c,d,e,f,g,h,i,j,k,l,m,n,o,p,q,r,s,t,u,v,w,x,y,z,0,1,2,3,4,5,6,7,8,9", schema.header());
+        for(int column = 0; column < schema.numberOfColumns(); column++) {
+            assertTrue(schema.isRepeatable(column), "column " + column);
+        }
+    }
+
+    @Test
+    void tagsWithoutBuiltInSchema() {
+        assertNull(DatafieldSchema.forTag("001"));
+        assertNull(DatafieldSchema.forTag("029"));
+        assertNull(DatafieldSchema.forTag("990"));
+    }
+
+    @Test
+    void loadsSchemaFile() throws IOException, ParseException {
+        Path file = write("# local fields",
+                "",
+                "991: a, b*, 8*",
+                "  992 :c  ");
+
+        assertEquals(2, DatafieldSchema.load(file.toString()));
+        assertEquals(",a,b,8", DatafieldSchema.forTag("991").header());
+        assertFalse(DatafieldSchema.forTag("991").isRepeatable(0));
+        assertTrue(DatafieldSchema.forTag("991").isRepeatable(1));
+        assertEquals(",c", DatafieldSchema.forTag("992").header());
+
+        //built-in schemas stay
+        assertEquals(",a,b,q,6,8", DatafieldSchema.forTag("028").header());
+
+        //loaded schemas are dropped again
+        DatafieldSchema.useBuiltInSchemas();
+        assertNull(DatafieldSchema.forTag("991"));
+    }
+
+    @Test
+    void rejectsMalformedLines() throws IOException {
+        assertMalformed(2, "993: a", "993 a, b");
+        assertMalformed(1, ": a, b");
+        assertMalformed(1, "993:");
+        assertMalformed(1, "993:   ");
+        assertMalformed(2, "# comment", "993: a, , b");
+        assertMalformed(1, "993: a, *");
+
+        //no schema of a rejected file is loaded
+        assertNull(DatafieldSchema.forTag("993"));
+    }
+
+    /**
+     * Check that loading a schema file fails at a line.
+     * @param line_number number of the malformed line
+     * @param lines lines of the schema file
+     * @throws IOException Error while writing the schema file
+     */
+    private void assertMalformed(int line_number, String... lines) throws IOException {
+        Path file = write(lines);
+        ParseException e = assertThrows(ParseException.class, () -> DatafieldSchema.load(file.toString()), String.join("|", lines));
+        assertEquals(line_number, e.getErrorOffset(), String.join("|", lines));
+    }
+
+    /**
+     * Write schema file in the test directory.
+     * @param lines lines of the schema file
+     * @return path of the file
+     * @throws IOException Error while writing the file
+     */
+    private Path write(String... lines) throws IOException {
+        Path file = Files.createTempFile(directory, "schema", ".txt");
+        Files.write(file, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return(file);
+    }
+}
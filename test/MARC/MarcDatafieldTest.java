@@ -0,0 +1,132 @@
+package MARC;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarcDatafieldTest {
+
+    //schema with codes in the subfield index (a-z, 0-9) and codes outside of it, repeatable and not repeatable
+    private static final String SCHEMA = "991: a, b*, 8*, A*, &, xy*";
+
+    //ID, index, tag and indicators of a rendered data field without record; the blank indicator is trimmed
+    private static final String ROW_START = "\"\",0,\"991\",\"1\",\"\",";
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void loadSchema() throws IOException, ParseException {
+        Path file = directory.resolve("schema.txt");
+        Files.write(file, SCHEMA.getBytes(StandardCharsets.UTF_8));
+        DatafieldSchema.load(file.toString());
+    }
+
+    @AfterEach
+    void restoreBuiltInSchemas() {
+        DatafieldSchema.useBuiltInSchemas();
+    }
+
+    @Test
+    void rendersRepeatedCodesInSubfieldOrder() throws IOException, ParseException {
+        MarcDatafield datafield = datafield();
+        addSubfield(datafield, "a", "first a");
+        addSubfield(datafield, "b", "b1");
+        addSubfield(datafield, "8", "1\\c");
+        addSubfield(datafield, "b", "b2");
+        addSubfield(datafield, "a", "second a");
+        addSubfield(datafield, "b", "b3");
+
+        //not repeatable: first value; repeatable: all values in subfield order
+        assertEquals(ROW_START + "\"first a\",\"b1^^^b2^^^b3\",\"1\\c\",\"\",\"\",\"\"", render(datafield));
+    }
+
+    @Test
+    void rendersCodesOutsideSubfieldIndex() throws IOException, ParseException {
+        MarcDatafield datafield = datafield();
+        addSubfield(datafield, "A", "upper 1");
+        addSubfield(datafield, "&", "ampersand");
+        addSubfield(datafield, null, "no code");
+        addSubfield(datafield, "xy", "two characters");
+        addSubfield(datafield, "A", "upper 2");
+        addSubfield(datafield, "&", "second ampersand");
+
+        //codes outside a-z and 0-9 are found without the index, a subfield without code is never found
+        assertEquals(ROW_START + "\"\",\"\",\"\",\"upper 1^^^upper 2\",\"ampersand\",\"two characters\"", render(datafield));
+    }
+
+    @Test
+    void rendersNewCodeAfterIndexIsBuilt() throws IOException, ParseException {
+        MarcDatafield datafield = datafield();
+        MarcSubfield first = addSubfield(datafield, "a", "one");
+        MarcSubfield second = addSubfield(datafield, "b", "two");
+        MarcSubfield third = addSubfield(datafield, "b", "three");
+
+        //index is built by rendering
+        assertEquals(ROW_START + "\"one\",\"two^^^three\",\"\",\"\",\"\",\"\"", render(datafield));
+
+        //codes changed within the index, into a code outside of it, and out of it again
+        first.setCode("b");
+        second.setCode("A");
+        third.setCode("a");
+        assertEquals(ROW_START + "\"three\",\"one\",\"\",\"two\",\"\",\"\"", render(datafield));
+        second.setCode("8");
+        assertEquals(ROW_START + "\"three\",\"one\",\"two\",\"\",\"\",\"\"", render(datafield));
+
+        //subfield added after the index is built
+        addSubfield(datafield, "b", "four");
+        assertEquals(ROW_START + "\"three\",\"one^^^four\",\"two\",\"\",\"\",\"\"", render(datafield));
+    }
+
+    /**
+     * Data field with tag of the test schema.
+     * @return data field without subfields
+     */
+    private static MarcDatafield datafield() {
+        MarcDatafield datafield = new MarcDatafield();
+        datafield.setTag("991");
+        datafield.setIndicator1("1");
+        datafield.setIndicator2(" ");
+        return(datafield);
+    }
+
+    /**
+     * Add subfield to data field.
+     * @param datafield data field
+     * @param code code of subfield
+     * @param value value of subfield
+     * @return added subfield
+     */
+    private static MarcSubfield addSubfield(MarcDatafield datafield, String code, String value) {
+        MarcSubfield subfield = new MarcSubfield();
+        subfield.setCode(code);
+        subfield.setValue(value);
+        subfield.setParent(datafield);
+        datafield.addSubfield(subfield);
+        return(subfield);
+    }
+
+    /**
+     * Render data field row.
+     * @param datafield data field to be rendered
+     * @return row of the data field, without end-of-line
+     * @throws IOException Error while rendering
+     * @throws ParseException Unknown tag
+     */
+    private static String render(MarcDatafield datafield) throws IOException, ParseException {
+        MarcOutput output = new MarcOutput();
+        datafield.writeTo(output);
+        String lines = output.buffer(datafield.outputFilename(), null).toString();
+        assertTrue(lines.endsWith("\n"), lines);
+        return(lines.substring(0, lines.length() - 1));
+    }
+}
@@ -0,0 +1,127 @@
+package MARC;
+
+import XML.Utf8XmlScanner;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarcRecordBuilderTest {
+
+    //record with leader, record ID, another control field, and data fields with indicators and subfields
+    private static final String FIRST_RECORD = "<marc:record><marc:leader>00000ncd a2200000 4500</marc:leader>"
+            + "<marc:controlfield tag=\"001\">1001145</marc:controlfield><marc:controlfield tag=\"005\">20240101</marc:controlfield>"
+            + "<marc:datafield tag=\"245\" ind1=\"1\" ind2=\"0\"><marc:subfield code=\"a\">Requiem</marc:subfield><marc:subfield code=\"b\">KV 626</marc:subfield></marc:datafield>"
+            + "<marc:datafield tag=\"700\" ind1=\"1\" ind2=\" \"><marc:subfield code=\"a\">Mozart</marc:subfield></marc:datafield></marc:record>";
+
+    //record without leader and record ID; a data field and a subfield without attributes and text
+    private static final String SECOND_RECORD = "<marc:record><marc:controlfield tag=\"008\">x</marc:controlfield>"
+            + "<marc:datafield></marc:datafield><marc:datafield tag=\"852\"><marc:subfield></marc:subfield></marc:datafield></marc:record>";
+
+    @Test
+    void buildsRecordFromEvents() throws ParseException {
+        MarcRecord record = build(new MarcRecordBuilder(), FIRST_RECORD);
+
+        assertEquals("00000ncd a2200000 4500", record.getLeader().getValue());
+        assertSame(record, record.getLeader().getParent());
+        assertEquals("1001145", record.getMarcRecordID());
+        assertEquals(2, record.getControlfields().size());
+        assertEquals("005", record.getControlfields().get(1).getTag());
+        assertEquals("20240101", record.getControlfields().get(1).getValue());
+
+        MarcDatafield datafield = record.getDatafields().get(0);
+        assertEquals("245", datafield.getTag());
+        assertEquals("1", datafield.getIndicator1());
+        assertEquals("0", datafield.getIndicator2());
+        assertSame(record, datafield.getParent());
+        assertEquals(2, datafield.getSubfields().size());
+        assertEquals("b", datafield.getSubfields().get(1).getCode());
+        assertEquals("KV 626", datafield.getSubfields().get(1).getValue());
+        assertSame(datafield, datafield.getSubfields().get(1).getParent());
+        assertEquals("Mozart", record.getDatafields().get(1).getSubfields().get(0).getValue());
+    }
+
+    @Test
+    void ignoresRootElementThatIsNoRecord() throws ParseException {
+        assertNull(build(new MarcRecordBuilder(), "<marc:collection><marc:controlfield tag=\"001\">1</marc:controlfield></marc:collection>"));
+    }
+
+    @Test
+    void recycledRecordKeepsNothingOfPreviousRecord() throws ParseException {
+        MarcRecordBuilder builder = MarcRecordBuilder.forCurrentThread();
+        MarcRecord first = build(builder, FIRST_RECORD);
+        MarcDatafield first_datafield = first.getDatafields().get(0);
+        MarcSubfield first_subfield = first_datafield.getSubfields().get(0);
+
+        //the same objects are used for the second record
+        MarcRecord second = build(MarcRecordBuilder.forCurrentThread(), SECOND_RECORD);
+        assertSame(first, second);
+
+        //no leader and record ID of the first record
+        assertNull(second.getLeader());
+        assertNull(second.getMarcRecordID());
+        assertNull(second.getUniqueMarcRecordID());
+
+        //only the control field of the second record
+        assertEquals(1, second.getControlfields().size());
+        assertEquals("008", second.getControlfields().get(0).getTag());
+        assertEquals("x", second.getControlfields().get(0).getValue());
+        assertNull(second.getControlfields().get(0).getMarcRecordID());
+
+        //recycled data field without tag, indicators and subfields of the first record
+        List<MarcDatafield> datafields = second.getDatafields();
+        assertEquals(2, datafields.size());
+        assertSame(first_datafield, datafields.get(0));
+        assertNull(datafields.get(0).getTag());
+        assertNull(datafields.get(0).getIndicator1());
+        assertNull(datafields.get(0).getIndicator2());
+        assertNull(datafields.get(0).getMarcRecordID());
+        assertNull(datafields.get(0).getSubfields());
+
+        //recycled subfield without code and value of the first record
+        MarcDatafield datafield = datafields.get(1);
+        assertEquals("852", datafield.getTag());
+        assertNull(datafield.getIndicator1());
+        assertEquals(1, datafield.getSubfields().size());
+        MarcSubfield subfield = datafield.getSubfields().get(0);
+        assertSame(first_subfield, subfield);
+        assertSame(datafield, subfield.getParent());
+        assertNull(subfield.getCode());
+        assertNull(subfield.getValue());
+        assertNull(subfield.getMarcRecordID());
+    }
+
+    @Test
+    void recycledRecordTakesRecordIDOfNewRecord() throws ParseException {
+        MarcRecordBuilder builder = MarcRecordBuilder.forCurrentThread();
+        build(builder, FIRST_RECORD);
+
+        MarcRecord record = build(builder, FIRST_RECORD.replace("1001145", "1001146"));
+        assertEquals("1001146", record.getMarcRecordID());
+        assertEquals("1001146", record.getUniqueMarcRecordID());
+    }
+
+    @Test
+    void everyThreadHasItsOwnBuilder() throws Exception {
+        MarcRecordBuilder builder = MarcRecordBuilder.forCurrentThread();
+        assertSame(builder, MarcRecordBuilder.forCurrentThread());
+        assertNotSame(builder, CompletableFuture.supplyAsync(MarcRecordBuilder::forCurrentThread).get());
+    }
+
+    /**
+     * Build a record with the builder from XML.
+     * @param builder builder to be used, reset before the record is built
+     * @param xml XML of the record
+     * @return marc record, or null when the XML doesn't contain a marc record
+     * @throws ParseException Error while parsing XML
+     */
+    private static MarcRecord build(MarcRecordBuilder builder, String xml) throws ParseException {
+        builder.reset();
+        new Utf8XmlScanner().parse(xml.getBytes(StandardCharsets.UTF_8), builder);
+        return(builder.getRecord());
+    }
+}
@@ -0,0 +1,128 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarcCsvTest {
+
+    //lines of the source file: more batches than the workers can hold, in two chunks
+    private static final int NUMBER_OF_LINES = 12000;
+
+    //rejected lines, every line starting with the time it was logged
+    private static final String REJECTIONS_FILE = "rejections.txt";
+    private static final String LOG_TIME = "\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2} - ";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void outputWithSeveralWorkersIsSameAsWithOneWorker() throws IOException, InterruptedException {
+        //source file with valid and rejected lines
+        Path source_file = directory.resolve("lines.txt");
+        Files.write(source_file, sourceLines(), StandardCharsets.UTF_8);
+
+        //one run with one worker, one run with several workers
+        Path one_worker = run(source_file, "one_worker", 1);
+        Path four_workers = run(source_file, "four_workers", 4);
+
+        //same output files, with the same bytes
+        List<String> file_names = fileNames(one_worker);
+        assertTrue(file_names.contains("marc_record.csv"));
+        assertEquals(file_names, fileNames(four_workers));
+        for(String file_name : file_names) {
+            if(!file_name.equals(REJECTIONS_FILE)) {
+                assertArrayEquals(Files.readAllBytes(one_worker.resolve(file_name)), Files.readAllBytes(four_workers.resolve(file_name)), file_name);
+            }
+        }
+
+        //same rejections in the same order, apart from the time they were logged
+        List<String> rejections = rejections(one_worker);
+        assertEquals((NUMBER_OF_LINES + 96) / 97, rejections.size());
+        assertEquals(rejections, rejections(four_workers));
+    }
+
+    /**
+     * Lines of the source file: marc records of different sizes, and every 97th line a record with mismatched tags.
+     * @return lines of the source file
+     */
+    private static List<String> sourceLines() {
+        return(Stream.iterate(0, number -> number + 1).limit(NUMBER_OF_LINES).map(number -> {
+            if(number % 97 == 0) {
+                return("<marc:record><marc:controlfield tag=\"001\">" + number + "</marc:record>");
+            }
+            StringBuilder line = new StringBuilder("<marc:record><marc:leader>00000ncd a2200000 u 4500</marc:leader>");
+            line.append("<marc:controlfield tag=\"001\">").append(1000000 + number).append("</marc:controlfield>");
+            line.append("<marc:datafield tag=\"245\" ind1=\"1\" ind2=\"0\"><marc:subfield code=\"a\">Réquiem \"").append(number).append("\"</marc:subfield></marc:datafield>");
+            for(int index = 0; index < number % 5; index++) {
+                line.append("<marc:datafield tag=\"700\" ind1=\"1\" ind2=\" \"><marc:subfield code=\"a\">Composer ").append(index)
+                        .append("</marc:subfield><marc:subfield code=\"4\">cmp</marc:subfield></marc:datafield>");
+            }
+            if(number % 3 == 0) {
+                line.append("<marc:datafield tag=\"852\" ind1=\" \" ind2=\" \"><marc:subfield code=\"a\">D-B 𝄞</marc:subfield><marc:subfield code=\"c\">Mus.ms. ")
+                        .append(number).append("</marc:subfield></marc:datafield>");
+            }
+            return(line.append("</marc:record>").toString());
+        }).toList());
+    }
+
+    /**
+     * Run MarcCsv in its own JVM, with a new working directory for the output files; the class path entries are made absolute.
+     * @param source_file source file with one record per line
+     * @param directory_name name of the working directory in the test directory
+     * @param number_of_workers number of workers
+     * @return working directory with the output files
+     * @throws IOException Error while starting MarcCsv or creating the directory
+     * @throws InterruptedException Interrupted while waiting for MarcCsv
+     */
+    private Path run(Path source_file, String directory_name, int number_of_workers) throws IOException, InterruptedException {
+        Path working_directory = Files.createDirectory(directory.resolve(directory_name));
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String class_path = Stream.of(System.getProperty("java.class.path").split(File.pathSeparator))
+                .map(entry -> new File(entry).getAbsolutePath())
+                .collect(Collectors.joining(File.pathSeparator));
+        Path log_file = directory.resolve(directory_name + ".log");
+        Process process = new ProcessBuilder(java, "-cp", class_path, "MarcCsv", source_file.toString(), String.valueOf(number_of_workers))
+                .directory(working_directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log_file.toFile())
+                .start();
+        assertTrue(process.waitFor(5, TimeUnit.MINUTES), "MarcCsv didn't finish");
+        assertEquals(0, process.exitValue(), Files.readString(log_file));
+        return(working_directory);
+    }
+
+    /**
+     * Rejected lines of a run, without the time they were logged.
+     * @param working_directory working directory of the run
+     * @return rejected lines
+     * @throws IOException Error while reading the rejections file
+     */
+    private static List<String> rejections(Path working_directory) throws IOException {
+        return(Files.readAllLines(working_directory.resolve(REJECTIONS_FILE), StandardCharsets.UTF_8).stream()
+                .filter(line -> line.matches(LOG_TIME + ".*"))
+                .map(line -> line.replaceFirst(LOG_TIME, ""))
+                .toList());
+    }
+
+    /**
+     * Names of the files in a directory.
+     * @param directory directory
+     * @return sorted file names
+     * @throws IOException Error while listing the directory
+     */
+    private static List<String> fileNames(Path directory) throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            return(files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+    }
+}
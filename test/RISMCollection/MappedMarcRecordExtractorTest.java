@@ -0,0 +1,141 @@
+package RISMCollection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedMarcRecordExtractorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void extractsRecordsReplacingEndOfLines() throws IOException {
+        assertEquals(MarcRecordExtractorTest.RECORDS, extract(write(MarcRecordExtractorTest.COLLECTION), 64*1024*1024));
+    }
+
+    @Test
+    void extractsRecordsSplitAcrossWindows() throws IOException {
+        //every position of the collection is at a window boundary for one of the window sizes, also within the tokens and multibyte characters
+        File file = write(MarcRecordExtractorTest.COLLECTION);
+        for(int window_size = 1; window_size <= 80; window_size++) {
+            assertEquals(MarcRecordExtractorTest.RECORDS, extract(file, window_size), "window size " + window_size);
+        }
+    }
+
+    @Test
+    void extractsRecordsLongerThanTheWindow() throws IOException {
+        String marc_record = "<marc:record>" + "é".repeat(5000) + "</marc:record>";
+        assertEquals(List.of(marc_record, marc_record), extract(write(marc_record + "\n" + marc_record), 16));
+    }
+
+    @Test
+    void extractsLastRecordWithoutTrailingNewline() throws IOException {
+        assertEquals(List.of("<marc:record>a</marc:record>", "<marc:record>b</marc:record>"),
+                extract(write("<marc:collection>\n<marc:record>a</marc:record>\n<marc:record>b</marc:record>"), 8));
+    }
+
+    @Test
+    void dropsRecordWithoutClosingTag() throws IOException {
+        assertEquals(List.of("<marc:record>a</marc:record>"),
+                extract(write("<marc:collection>\n<marc:record>a</marc:record>\n<marc:record>b</marc:marc:rec"), 8));
+        assertEquals(List.of(), extract(write("<marc:collection><marc:record>a"), 8));
+        assertEquals(List.of(), extract(write(""), 8));
+    }
+
+    @Test
+    void returnsRecordBytesWithoutDecoding() throws IOException {
+        File file = write(MarcRecordExtractorTest.COLLECTION);
+        try(MappedMarcRecordExtractor extractor = new MappedMarcRecordExtractor(file, 32)) {
+            for(String marc_record : MarcRecordExtractorTest.RECORDS) {
+                assertArrayEquals(marc_record.getBytes(StandardCharsets.UTF_8), extractor.nextRecordBytes());
+            }
+            assertNull(extractor.nextRecordBytes());
+        }
+    }
+
+    @Test
+    void extractsSameRecordsAsMarcRecordExtractor() throws IOException {
+        //records of different lengths and content, with the end-of-line characters of different platforms
+        StringBuilder collection = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<marc:collection>\n");
+        for(int number = 0; number < 500; number++) {
+            collection.append("<marc:record>\r\n  <marc:controlfield tag=\"001\">").append(number).append("</marc:controlfield>\n");
+            collection.append("  <marc:datafield tag=\"245\" ind1=\" \" ind2=\" \"><marc:subfield code=\"a\">");
+            collection.append("Réquiem für Stimme € 中 𝄞 ".repeat(number % 7)).append("x".repeat(number % 300));
+            collection.append("</marc:subfield></marc:datafield>\r\n</marc:record>").append(number % 3 == 0 ? "\r\n" : "\n");
+        }
+        collection.append("</marc:collection>");
+        File file = write(collection.toString());
+
+        //same records with a buffer and a window holding the whole collection, and with small buffers and windows
+        List<String> expected = extractWithReader(file, 1024*1024);
+        assertEquals(500, expected.size());
+        assertEquals(expected, extract(file, 64*1024*1024));
+        assertEquals(expected, extractWithReader(file, 100));
+        assertEquals(expected, extract(file, 100));
+        assertEquals(expected, extract(file, 4099));
+    }
+
+    /**
+     * Extract all records of a collection file with a memory-mapped extractor.
+     * @param file collection file
+     * @param window_size size of the windows on the file
+     * @return records of the collection
+     * @throws IOException Error while reading the collection
+     */
+    private static List<String> extract(File file, int window_size) throws IOException {
+        try(MarcRecordSource extractor = new MappedMarcRecordExtractor(file, window_size)) {
+            return(extractAll(extractor));
+        }
+    }
+
+    /**
+     * Extract all records of a collection file with an extractor reading characters.
+     * @param file collection file
+     * @param buffer_size initial size of the buffer of the extractor
+     * @return records of the collection
+     * @throws IOException Error while reading the collection
+     */
+    private static List<String> extractWithReader(File file, int buffer_size) throws IOException {
+        try(MarcRecordSource extractor = new MarcRecordExtractor(new FileReader(file, StandardCharsets.UTF_8), buffer_size)) {
+            return(extractAll(extractor));
+        }
+    }
+
+    /**
+     * Extract all records from a source.
+     * @param extractor source of records
+     * @return records of the source
+     * @throws IOException Error while reading the source
+     */
+    private static List<String> extractAll(MarcRecordSource extractor) throws IOException {
+        List<String> records = new ArrayList<>();
+        String marc_record;
+        while ((marc_record = extractor.nextRecord()) != null) {
+            records.add(marc_record);
+        }
+        return(records);
+    }
+
+    /**
+     * Write collection file in the test directory.
+     * @param content content of the file, written as UTF-8
+     * @return file
+     * @throws IOException Error while writing the file
+     */
+    private File write(String content) throws IOException {
+        Path path = Files.createTempFile(directory, "collection", ".xml");
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return(path.toFile());
+    }
+}
@@ -0,0 +1,88 @@
+package RISMCollection;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarcRecordExtractorTest {
+
+    //collection with end-of-line characters, multibyte characters and text between the records
+    static final String COLLECTION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\r\n<marc:collection>\r\n"
+            + "<marc:record>\r\n  <marc:controlfield tag=\"001\">1</marc:controlfield>\r\n</marc:record>\r\n"
+            + "<marc:record><marc:subfield code=\"a\">Réquiem für Stimme € 中 𝄞</marc:subfield></marc:record>\n"
+            + "<!-- text between records --><marc:record>\n</marc:record>"
+            + "<marc:record><marc:subfield code=\"a\">" + "long text ".repeat(50) + "</marc:subfield></marc:record>\n"
+            + "</marc:collection>\n";
+
+    //records of the collection, end-of-line characters replaced by spaces
+    static final List<String> RECORDS = List.of(
+            "<marc:record>    <marc:controlfield tag=\"001\">1</marc:controlfield>  </marc:record>",
+            "<marc:record><marc:subfield code=\"a\">Réquiem für Stimme € 中 𝄞</marc:subfield></marc:record>",
+            "<marc:record> </marc:record>",
+            "<marc:record><marc:subfield code=\"a\">" + "long text ".repeat(50) + "</marc:subfield></marc:record>");
+
+    @Test
+    void extractsRecordsReplacingEndOfLines() throws IOException {
+        assertEquals(RECORDS, extract(COLLECTION, 64*1024));
+    }
+
+    @Test
+    void extractsRecordsSplitAcrossRefillsOfTheBuffer() throws IOException {
+        //every position of the collection is at a refill for one of the buffer sizes, also within the tokens
+        for(int buffer_size = 1; buffer_size <= 80; buffer_size++) {
+            assertEquals(RECORDS, extract(COLLECTION, buffer_size), "buffer size " + buffer_size);
+        }
+    }
+
+    @Test
+    void extractsRecordsLongerThanTheBuffer() throws IOException {
+        String marc_record = "<marc:record>" + "é".repeat(5000) + "</marc:record>";
+        assertEquals(List.of(marc_record, marc_record), extract(marc_record + "\n" + marc_record, 16));
+    }
+
+    @Test
+    void extractsLastRecordWithoutTrailingNewline() throws IOException {
+        assertEquals(List.of("<marc:record>a</marc:record>", "<marc:record>b</marc:record>"),
+                extract("<marc:collection>\n<marc:record>a</marc:record>\n<marc:record>b</marc:record>", 8));
+    }
+
+    @Test
+    void dropsRecordWithoutClosingTag() throws IOException {
+        assertEquals(List.of("<marc:record>a</marc:record>"),
+                extract("<marc:collection>\n<marc:record>a</marc:record>\n<marc:record>b</marc:marc:rec", 8));
+        assertEquals(List.of(), extract("<marc:collection><marc:record>a", 8));
+        assertEquals(List.of(), extract("", 8));
+    }
+
+    @Test
+    void returnsNullAfterLastRecord() throws IOException {
+        try(MarcRecordExtractor extractor = new MarcRecordExtractor(new StringReader("<marc:record>a</marc:record>"), 8)) {
+            assertNotNull(extractor.nextRecord());
+            assertNull(extractor.nextRecord());
+            assertNull(extractor.nextRecord());
+        }
+    }
+
+    /**
+     * Extract all records of a collection.
+     * @param collection text of the collection
+     * @param buffer_size initial size of the buffer of the extractor
+     * @return records of the collection
+     * @throws IOException Error while reading the collection
+     */
+    private static List<String> extract(String collection, int buffer_size) throws IOException {
+        List<String> records = new ArrayList<>();
+        try(MarcRecordExtractor extractor = new MarcRecordExtractor(new StringReader(collection), buffer_size)) {
+            String marc_record;
+            while ((marc_record = extractor.nextRecord()) != null) {
+                records.add(marc_record);
+            }
+        }
+        return(records);
+    }
+}
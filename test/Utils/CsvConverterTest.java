@@ -0,0 +1,65 @@
+package Utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvConverterTest {
+
+    @Test
+    void quotesNullAndEmptyStrings() {
+        assertCsvString("\"\"", null);
+        assertCsvString("\"\"", "");
+        assertCsvString("\"\"", " \t\r\n ");
+    }
+
+    @Test
+    void trimsLeadingAndTrailingWhitespace() {
+        assertCsvString("\"Requiem\"", "  Requiem\t");
+        assertCsvString("\"Requiem in d\"", "\nRequiem in d\r\n");
+
+        //control characters are trimmed like String.trim() does, inner whitespace is kept
+        assertCsvString("\"a \t b\"", "\u0001a \t b\u001F");
+    }
+
+    @Test
+    void doublesEmbeddedQuotes() {
+        assertCsvString("\"Missa \"\"brevis\"\"\"", "Missa \"brevis\"");
+        assertCsvString("\"\"\"\"", "\"");
+        assertCsvString("\"\"\"quoted\"\" \"\"\"", "  \"quoted\" \"  ");
+    }
+
+    @Test
+    void keepsCommasSemicolonsAndNewlines() {
+        assertCsvString("\"Bach, J. S.; Söhne\"", "Bach, J. S.; Söhne");
+        assertCsvString("\"line 1\nline 2\r\nline 3\"", "line 1\nline 2\r\nline 3\n");
+    }
+
+    @Test
+    void keepsNonBmpCharacters() {
+        assertCsvString("\"𝄞 clef \"\"𝄢\"\"\"", " 𝄞 clef \"𝄢\" ");
+        assertCsvString("\"𝄞\"", "𝄞");
+    }
+
+    @Test
+    void appendsAfterExistingOutput() {
+        StringBuilder output = new StringBuilder("1001145;");
+        CsvConverter.appendCsvString(output, " a\"b ");
+        CsvConverter.appendCsvString(output, null);
+        assertEquals("1001145;\"a\"\"b\"\"\"", output.toString());
+    }
+
+    /**
+     * Check that appendCsvString and asCsvString give the expected CSV string,
+     * and that it is the CSV string of the original implementation: quotes doubled, trimmed, in double quotes.
+     * @param expected expected CSV string
+     * @param string string to be converted
+     */
+    private static void assertCsvString(String expected, String string) {
+        StringBuilder output = new StringBuilder();
+        CsvConverter.appendCsvString(output, string);
+        assertEquals(expected, output.toString());
+        assertEquals(expected, CsvConverter.asCsvString(string));
+        assertEquals(expected, "\"" + (string == null ? "" : string.replace("\"", "\"\"").trim()) + "\"");
+    }
+}
@@ -0,0 +1,125 @@
+package Utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexesLineStarts() throws IOException {
+        File file = write("lines.txt", "a\nbb\n\nccc");
+
+        LineIndex index = LineIndex.build(file);
+        assertEquals(4, index.getNumberOfLines());
+        assertEquals(0, index.lineOffset(0));
+        assertEquals(2, index.lineOffset(1));
+        assertEquals(5, index.lineOffset(2));
+        assertEquals(6, index.lineOffset(3));
+        assertEquals(9, index.lineOffset(4));
+    }
+
+    @Test
+    void readsLineAsUtf8() throws IOException {
+        File file = write("lines.txt", "first\nRéquiem für Stimme\nlast\n");
+
+        LineIndex index = LineIndex.load(file.getPath());
+        assertEquals("Réquiem für Stimme", index.readLine(1));
+        assertEquals("last", index.readLine(2));
+        assertNull(index.readLine(3));
+    }
+
+    @Test
+    void usesCacheWhileSizeAndModificationTimeAreUnchanged() throws IOException {
+        File file = write("lines.txt", "aa\nbb\n");
+        long last_modified = file.lastModified();
+        LineIndex.load(file.getPath());
+        assertTrue(new File(file.getPath() + ".idx").isFile());
+
+        //same size and modification time: the cached offsets are used, even though the lines moved
+        write("lines.txt", "a\nbbb\n");
+        assertTrue(file.setLastModified(last_modified));
+        assertEquals(3, LineIndex.load(file.getPath()).lineOffset(1));
+    }
+
+    @Test
+    void rebuildsCacheWhenSizeChanges() throws IOException {
+        File file = write("lines.txt", "aa\nbb\n");
+        long last_modified = file.lastModified();
+        assertEquals(2, LineIndex.load(file.getPath()).getNumberOfLines());
+
+        //one line more, same modification time
+        write("lines.txt", "aa\nbb\ncc\n");
+        assertTrue(file.setLastModified(last_modified));
+        LineIndex index = LineIndex.load(file.getPath());
+        assertEquals(3, index.getNumberOfLines());
+        assertEquals("cc", index.readLine(2));
+
+        //rebuilt index is cached
+        assertEquals(3, LineIndex.load(file.getPath()).getNumberOfLines());
+    }
+
+    @Test
+    void rebuildsCacheWhenModificationTimeChanges() throws IOException {
+        File file = write("lines.txt", "aa\nbb\n");
+        long last_modified = file.lastModified();
+        assertEquals(3, LineIndex.load(file.getPath()).lineOffset(1));
+
+        //same size, other modification time
+        write("lines.txt", "a\nbbb\n");
+        assertTrue(file.setLastModified(last_modified + 2000));
+        LineIndex index = LineIndex.load(file.getPath());
+        assertEquals(2, index.lineOffset(1));
+        assertEquals("bbb", index.readLine(1));
+    }
+
+    @Test
+    void chunksHaveFixedNumberOfLines() throws IOException {
+        File file = write("lines.txt", "1\n2\n3\n4\n5");
+
+        List<SourceChunk> chunks = LineIndex.build(file).chunks(2);
+        assertEquals(3, chunks.size());
+        assertEquals("0002", chunks.get(2).getKey());
+        assertEquals(1, chunks.get(2).getNumberOfLines());
+
+        //chunks cover the file line by line, the last line without end-of-line
+        byte[] content = Files.readAllBytes(file.toPath());
+        assertEquals("1\n2\n", chunkText(content, chunks.get(0)));
+        assertEquals("3\n4\n", chunkText(content, chunks.get(1)));
+        assertEquals("5", chunkText(content, chunks.get(2)));
+    }
+
+    /**
+     * Text of a chunk.
+     * @param content content of the file
+     * @param chunk chunk of the file
+     * @return bytes of the chunk as UTF-8 text
+     */
+    private static String chunkText(byte[] content, SourceChunk chunk) {
+        return(new String(content, (int) chunk.getStartOffset(), (int) (chunk.getEndOffset() - chunk.getStartOffset()), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write file in the test directory.
+     * @param file_name name of the file
+     * @param content content of the file, written as UTF-8
+     * @return file
+     * @throws IOException Error while writing the file
+     */
+    private File write(String file_name, String content) throws IOException {
+        Path path = directory.resolve(file_name);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return(path.toFile());
+    }
+}
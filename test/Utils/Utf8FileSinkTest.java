@@ -0,0 +1,111 @@
+package Utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8FileSinkTest {
+
+    //sizes in the sink: characters encoded at once, bytes in one buffer, bytes in all buffers
+    private static final int CHAR_CHUNK_SIZE = 8*1024;
+    private static final int BYTE_BUFFER_SIZE = 64*1024;
+    private static final int ALL_BUFFERS_SIZE = 4 * BYTE_BUFFER_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void encodesAsciiAndMultiByteCharacters() throws IOException {
+        assertSameAsGetBytes("id;tag;value\n", "Réquiem für Stimme\n", "Ω € 中\n", "𝄞 Notenschlüssel\n");
+    }
+
+    @Test
+    void replacesUnpairedSurrogates() throws IOException {
+        //high surrogate before another character, low surrogate alone, high surrogate at the end of the file
+        assertSameAsGetBytes("a\uD834b", "c\uDD1Ed", "\uDD1E", "e\uD834");
+        assertArrayEquals("a?bc?d?e?".getBytes(StandardCharsets.UTF_8), write("a\uD834b", "c\uDD1Ed", "\uDD1E", "e\uD834"));
+    }
+
+    @Test
+    void carriesHighSurrogateAcrossAppends() throws IOException {
+        //surrogate pair split between two appends
+        assertSameAsGetBytes("clef \uD834", "\uDD1E end");
+
+        //high surrogate followed by an append without a low surrogate
+        assertSameAsGetBytes("clef \uD834", "x", "\uDD1E");
+
+        //surrogate pair split between two character chunks of one append
+        assertSameAsGetBytes("a".repeat(CHAR_CHUNK_SIZE - 1) + "𝄞" + "b".repeat(CHAR_CHUNK_SIZE));
+    }
+
+    @Test
+    void encodesCharacterAtEndOfBuffer() throws IOException {
+        //two, three and four byte character starting in the last byte of a buffer
+        assertSameAsGetBytes("a".repeat(BYTE_BUFFER_SIZE - 1), "é", "tail");
+        assertSameAsGetBytes("a".repeat(BYTE_BUFFER_SIZE - 1) + "€" + "tail");
+        assertSameAsGetBytes("a".repeat(BYTE_BUFFER_SIZE - 2), "𝄞", "tail");
+    }
+
+    @Test
+    void encodesCharacterAtEndOfAllBuffers() throws IOException {
+        //character at the end of the last buffer, before all buffers are written
+        String text = "a".repeat(ALL_BUFFERS_SIZE - 1) + "€" + "ü".repeat(BYTE_BUFFER_SIZE);
+        assertSameAsGetBytes(text);
+        assertSameAsGetBytes(text, text);
+    }
+
+    @Test
+    void appendsStringBuilderAndOtherCharSequences() throws IOException {
+        File file = directory.resolve("sink.csv").toFile();
+        try(Utf8FileSink sink = new Utf8FileSink(file)) {
+            sink.append(new StringBuilder("Bücher;"));
+            sink.append(CharBuffer.wrap("Noten\n"));
+        }
+        assertArrayEquals("Bücher;Noten\n".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    void appendsToExistingFile() throws IOException {
+        File file = directory.resolve("sink.csv").toFile();
+        Files.write(file.toPath(), "header\n".getBytes(StandardCharsets.UTF_8));
+        try(Utf8FileSink sink = new Utf8FileSink(file)) {
+            sink.append("row é\n");
+            sink.flush();
+            sink.append("row ü\n");
+        }
+        assertArrayEquals("header\nrow é\nrow ü\n".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file.toPath()));
+    }
+
+    /**
+     * Check that appending texts gives the same bytes as String.getBytes(UTF_8) of the concatenated texts.
+     * @param texts texts appended one after the other
+     * @throws IOException Error while writing or reading the file
+     */
+    private void assertSameAsGetBytes(String... texts) throws IOException {
+        assertArrayEquals(String.join("", texts).getBytes(StandardCharsets.UTF_8), write(texts));
+    }
+
+    /**
+     * Append texts to a new file.
+     * @param texts texts appended one after the other
+     * @return content of the file
+     * @throws IOException Error while writing or reading the file
+     */
+    private byte[] write(String... texts) throws IOException {
+        File file = Files.createTempFile(directory, "sink", ".csv").toFile();
+        try(Utf8FileSink sink = new Utf8FileSink(file)) {
+            for(String text : texts) {
+                sink.append(text);
+            }
+        }
+        return(Files.readAllBytes(file.toPath()));
+    }
+}
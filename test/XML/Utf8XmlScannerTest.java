@@ -0,0 +1,130 @@
+package XML;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8XmlScannerTest {
+
+    @Test
+    void reportsElementsAttributesAndTrimmedText() throws ParseException {
+        //whitespace between two tags is reported as empty text
+        assertEquals(List.of("start record", "text ", "start controlfield", "attribute tag=001", "text 1001145", "end controlfield", "text ", "end record"),
+                scan("<record>\n  <controlfield tag=\"001\"> 1001145 </controlfield>\n</record>"));
+    }
+
+    @Test
+    void passesEntitiesAndCharacterReferencesThrough() throws ParseException {
+        //entities and character references are reported as they are written, in text and in attribute values
+        assertEquals(List.of("start record", "start subfield", "attribute code=&amp;", "text Bach &amp; Söhne &lt;op. 1&gt; &#233;&#x1D11E;", "end subfield", "end record"),
+                scan("<record><subfield code=\"&amp;\">Bach &amp; Söhne &lt;op. 1&gt; &#233;&#x1D11E;</subfield></record>"));
+    }
+
+    @Test
+    void decodesMultiByteText() throws ParseException {
+        //two, three and four byte characters, in text and in attribute values
+        assertEquals(List.of("start record", "start subfield", "attribute code=é", "text Réquiem für Stimme € 中 𝄞", "end subfield", "end record"),
+                scan("<record><subfield code=\"é\">Réquiem für Stimme € 中 𝄞</subfield></record>"));
+    }
+
+    @Test
+    void readsAttributesInDoubleAndSingleQuotes() throws ParseException {
+        assertEquals(List.of("start record", "start datafield", "attribute tag=245", "attribute ind1=1", "attribute ind2=0", "end datafield", "end record"),
+                scan("<record><datafield tag=\"245\" ind1='1' ind2=\"0\"></datafield></record>"));
+
+        //the other quote is part of the value
+        assertEquals(List.of("start record", "attribute title=Don't", "attribute say='yes'", "end record"),
+                scan("<record title=\"Don't\" say=\"'yes'\"></record>"));
+    }
+
+    @Test
+    void reportsEmptyAndSelfClosingElements() throws ParseException {
+        assertEquals(List.of("start record", "start leader", "end leader", "start subfield", "end subfield",
+                        "start subfield", "attribute code=a", "end subfield", "end record"),
+                scan("<record><leader></leader><subfield/><subfield code=\"a\" /></record>"));
+    }
+
+    @Test
+    void reportsNothingForBlankInput() throws ParseException {
+        List<String> events = new ArrayList<>();
+        assertFalse(new Utf8XmlScanner().parse(" \n\t".getBytes(StandardCharsets.UTF_8), new EventRecorder(events)));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        //mismatched end tag, end tag without start tag, text outside of the root element
+        assertThrows(ParseException.class, () -> scan("<record><leader>x</record>"));
+        assertThrows(ParseException.class, () -> scan("</record>"));
+        assertThrows(ParseException.class, () -> scan("text<record></record>"));
+
+        //input ends in a start tag, in an end tag, in an attribute value
+        assertThrows(ParseException.class, () -> scan("<record><leader"));
+        assertThrows(ParseException.class, () -> scan("<record></record"));
+        assertThrows(ParseException.class, () -> scan("<record tag=\"001></record>"));
+
+        //attribute value without key, root element without end tag
+        assertThrows(ParseException.class, () -> scan("<record \"001\"></record>"));
+        assertThrows(ParseException.class, () -> scan("<record/>"));
+    }
+
+    @Test
+    void scannerCanBeReusedAfterMalformedInput() throws ParseException {
+        Utf8XmlScanner scanner = new Utf8XmlScanner();
+        assertThrows(ParseException.class, () -> scanner.parse("<record><leader>x</record>".getBytes(StandardCharsets.UTF_8), new EventRecorder(new ArrayList<>())));
+
+        //no open elements or text are left over
+        List<String> events = new ArrayList<>();
+        scanner.parse("<record>y</record>".getBytes(StandardCharsets.UTF_8), new EventRecorder(events));
+        assertEquals(List.of("start record", "text y", "end record"), events);
+    }
+
+    /**
+     * Scan XML with a new scanner.
+     * @param xml XML to be scanned, as UTF-8 bytes
+     * @return events of the scanner
+     * @throws ParseException Error while parsing XML
+     */
+    private static List<String> scan(String xml) throws ParseException {
+        List<String> events = new ArrayList<>();
+        new Utf8XmlScanner().parse(xml.getBytes(StandardCharsets.UTF_8), new EventRecorder(events));
+        return(events);
+    }
+
+    /**
+     * Handler recording the events of the scanner as text.
+     */
+    private static class EventRecorder implements XmlHandler {
+
+        private final List<String> events;
+
+        EventRecorder(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void startElement(String tag) {
+            events.add("start " + tag);
+        }
+
+        @Override
+        public void attribute(String key, String value) {
+            events.add("attribute " + key + "=" + value);
+        }
+
+        @Override
+        public void text(String text) {
+            events.add("text " + text);
+        }
+
+        @Override
+        public void endElement(String tag) {
+            events.add("end " + tag);
+        }
+    }
+}